@@ -0,0 +1,3 @@
+public interface AbortUploadSession extends Command {
+    UploadSessionDTO handle(UploadSessionRequest input, RequestContext context);
+}
@@ -0,0 +1,21 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AbortUploadSessionImpl implements AbortUploadSession {
+    private final UploadSessionAccessChecker sessionAccessChecker;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ChunkedUploadStorage uploadStorage;
+
+    @Override
+    @Transactional
+    public UploadSessionDTO handle(UploadSessionRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        UploadSession session = sessionAccessChecker.requireOpen(input.getSessionId(), requestingUserIgg);
+
+        log.info("Aborting upload session {}", session.getId());
+        session.setStatus(UploadSessionStatus.ABORTED);
+        UploadSession savedSession = uploadSessionRepository.save(session);
+        uploadStorage.discard(session.getId());
+        return savedSession.toDTO();
+    }
+}
@@ -2,10 +2,12 @@
 @RequiredArgsConstructor
 @Slf4j
 public class AddTeamSpaceMemberImpl implements AddTeamSpaceMember {
-    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpacePermissionChecker permissionChecker;
     private final UserRepository userRepository;
     private final TeamSpaceMemberRepository memberRepository;
     private final TeamSpaceMemberMapper memberMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamSpaceOutbox outbox;
 
     @Override
     @Transactional
@@ -14,21 +16,16 @@ public class AddTeamSpaceMemberImpl implements AddTeamSpaceMember {
 
         String requestingUserIgg = context.getUser().get().getIgg().toString();
 
-        // Verify team space exists
-        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
-                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
-
-        // Verify requesting user is admin or owner
-        if (!teamSpace.isUserAdmin(requestingUserIgg)) {
-            throw new AccessDeniedException("Only admins can add members");
-        }
+        // Verify team space exists and requesting user is admin or owner
+        permissionChecker.requireAdmin(input.getTeamSpaceId(), requestingUserIgg, "Only admins can add members");
+        permissionChecker.requireActive(input.getTeamSpaceId());
 
         // Verify new member exists
         userRepository.findByIgg(input.getMemberIgg())
                 .orElseThrow(() -> new IllegalArgumentException("User to be added not found"));
 
         // Verify user isn't already a member
-        if (memberRepository.findByTeamSpaceIdAndUserIgg(input.getTeamSpaceId(), input.getMemberIgg()).isPresent()) {
+        if (memberRepository.findRole(input.getTeamSpaceId(), input.getMemberIgg()).isPresent()) {
             throw new IllegalArgumentException("User is already a member of this team space");
         }
 
@@ -39,6 +36,9 @@ public class AddTeamSpaceMemberImpl implements AddTeamSpaceMember {
                 .build();
 
         TeamSpaceMember savedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(new TeamSpaceMembershipChangedEvent(input.getTeamSpaceId(), input.getMemberIgg()));
+        outbox.append(new TeamSpaceMemberAddedEvent(input.getTeamSpaceId(), input.getMemberIgg(), savedMember.getRole(),
+                requestingUserIgg, LocalDateTime.now()));
         log.info("Member added successfully to team space");
 
         return memberMapper.toDTO(savedMember);
@@ -0,0 +1,88 @@
+// Archive segments are gzipped NDJSON: one JSON object per table row, keyed by column name.
+// Values are written in a JSON friendly form and converted back with the column types of the table they are restored into.
+@Component
+@RequiredArgsConstructor
+public class ArchiveSegmentCodec {
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(List<Map<String, Object>> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Map<String, Object> row : rows) {
+                writer.write(objectMapper.writeValueAsString(toJsonValues(row)));
+                writer.write('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    public List<Map<String, Object>> decode(byte[] segment) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(segment)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    rows.add(objectMapper.readValue(line, ROW_TYPE));
+                }
+            }
+        }
+        return rows;
+    }
+
+    public Object fromJsonValue(Object value, int sqlType) {
+        if (value == null) {
+            return null;
+        }
+        switch (sqlType) {
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return Timestamp.valueOf(LocalDateTime.parse(value.toString()));
+            case Types.DATE:
+                return Date.valueOf(LocalDate.parse(value.toString()));
+            case Types.BIGINT:
+                return ((Number) value).longValue();
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return ((Number) value).intValue();
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return ((Number) value).doubleValue();
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value.toString());
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return Base64.getDecoder().decode(value.toString());
+            default:
+                return value;
+        }
+    }
+
+    private Map<String, Object> toJsonValues(Map<String, Object> row) {
+        Map<String, Object> values = new LinkedHashMap<>(row.size());
+        row.forEach((column, value) -> values.put(column.toLowerCase(Locale.ROOT), toJsonValue(value)));
+        return values;
+    }
+
+    private Object toJsonValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number
+                || value instanceof Boolean || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        // uuid, json and other driver specific types round-trip through their text form
+        return value.toString();
+    }
+}
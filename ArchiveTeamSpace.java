@@ -0,0 +1,3 @@
+public interface ArchiveTeamSpace extends Command {
+    TeamSpaceSummaryDTO handle(ArchiveTeamSpaceRequest input, RequestContext context);
+}
@@ -0,0 +1,34 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveTeamSpaceImpl implements ArchiveTeamSpace {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final TeamSpaceFolderRepository folderRepository;
+    private final TeamSpaceMapper teamSpaceMapper;
+
+    @Override
+    @Transactional
+    public TeamSpaceSummaryDTO handle(ArchiveTeamSpaceRequest input, RequestContext context) {
+        log.info("Archiving team space {}", input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Verify requesting user is owner
+        permissionChecker.requireOwner(input.getTeamSpaceId(), requestingUserIgg, "Only owners can archive a team space");
+
+        if (!teamSpaceRepository.updateStatus(input.getTeamSpaceId(), TeamSpaceStatus.ACTIVE, TeamSpaceStatus.ARCHIVED, LocalDateTime.now())) {
+            throw new IllegalArgumentException("Team space is already archived");
+        }
+
+        // Folders and documents stay in place until the archival job moves them to the cold tier
+        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        log.info("Team space {} archived", teamSpace.getId());
+
+        return teamSpaceMapper.toSummaryDTO(teamSpace,
+                memberRepository.countByTeamSpaceId(teamSpace.getId()),
+                folderRepository.countByTeamSpaceId(teamSpace.getId()));
+    }
+}
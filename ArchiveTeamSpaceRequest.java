@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveTeamSpaceRequest {
+    @NotNull
+    private Long teamSpaceId;
+}
@@ -0,0 +1,17 @@
+// Immutable blobs addressed by the hex SHA-256 of their content
+public interface BlobStore {
+    boolean exists(String sha256);
+
+    // Moves the source file into the store, returns false if the blob was already there
+    boolean put(String sha256, Path source) throws IOException;
+
+    // Copies the content into the store, verifying it against the hash; returns false if the blob was already there
+    boolean put(String sha256, InputStream content) throws IOException;
+
+    InputStream open(String sha256) throws IOException;
+
+    void delete(String sha256) throws IOException;
+
+    // Value stored as the file path of the documents pointing at the blob
+    String location(String sha256);
+}
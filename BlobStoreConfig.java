@@ -0,0 +1,16 @@
+@Configuration
+public class BlobStoreConfig {
+
+    // Blob store of the documents in use, on the same file system as the upload staging area
+    @Bean
+    @Primary
+    public BlobStore blobStore(@Value("${documents.storage.root-dir}") Path storageRoot) throws IOException {
+        return new LocalFileSystemBlobStore(storageRoot.resolve("blobs"));
+    }
+
+    // Cheaper storage for the blobs of archived team spaces
+    @Bean
+    public BlobStore coldBlobStore(@Value("${documents.storage.cold-root-dir}") Path coldStorageRoot) throws IOException {
+        return new LocalFileSystemBlobStore(coldStorageRoot.resolve("blobs"));
+    }
+}
@@ -0,0 +1,4 @@
+public enum BlobTier {
+    HOT,
+    COLD
+}
@@ -0,0 +1,6 @@
+public enum BulkAddMemberStatus {
+    ADDED,
+    ALREADY_MEMBER,
+    USER_NOT_FOUND,
+    DUPLICATE_IN_REQUEST
+}
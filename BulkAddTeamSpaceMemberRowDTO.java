@@ -0,0 +1,9 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddTeamSpaceMemberRowDTO {
+    private String memberIgg;
+    private BulkAddMemberStatus status;
+    private TeamSpaceMemberDTO member; // only set when status is ADDED
+}
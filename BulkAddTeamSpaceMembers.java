@@ -0,0 +1,3 @@
+public interface BulkAddTeamSpaceMembers extends Command {
+    BulkAddTeamSpaceMembersResultDTO handle(BulkAddTeamSpaceMembersRequest input, RequestContext context);
+}
@@ -0,0 +1,84 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkAddTeamSpaceMembersImpl implements BulkAddTeamSpaceMembers {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final UserRepository userRepository;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final TeamSpaceMemberMapper memberMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamSpaceOutbox outbox;
+
+    @Override
+    @Transactional
+    public BulkAddTeamSpaceMembersResultDTO handle(BulkAddTeamSpaceMembersRequest input, RequestContext context) {
+        log.info("Bulk adding {} members to team space {}", input.getMembers().size(), input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Verify team space exists and requesting user is admin or owner, once for the whole batch
+        permissionChecker.requireAdmin(input.getTeamSpaceId(), requestingUserIgg, "Only admins can add members");
+        permissionChecker.requireActive(input.getTeamSpaceId());
+
+        Set<String> requestedIggs = input.getMembers().stream()
+                .map(BulkTeamSpaceMemberEntry::getMemberIgg)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // One IN-query for the users, one for the existing memberships
+        Set<String> knownUsers = userRepository.findExistingIggs(requestedIggs);
+        Set<String> existingMembers = memberRepository.findExistingUserIggs(input.getTeamSpaceId(), requestedIggs);
+
+        Map<String, BulkAddMemberStatus> statuses = new LinkedHashMap<>();
+        List<BulkAddTeamSpaceMemberRowDTO> results = new ArrayList<>(input.getMembers().size());
+        List<TeamSpaceMember> newMembers = new ArrayList<>();
+        for (BulkTeamSpaceMemberEntry entry : input.getMembers()) {
+            BulkAddMemberStatus status;
+            if (statuses.containsKey(entry.getMemberIgg())) {
+                status = BulkAddMemberStatus.DUPLICATE_IN_REQUEST;
+            } else if (!knownUsers.contains(entry.getMemberIgg())) {
+                status = BulkAddMemberStatus.USER_NOT_FOUND;
+            } else if (existingMembers.contains(entry.getMemberIgg())) {
+                status = BulkAddMemberStatus.ALREADY_MEMBER;
+            } else {
+                status = BulkAddMemberStatus.ADDED;
+                newMembers.add(TeamSpaceMember.builder()
+                        .teamSpaceId(input.getTeamSpaceId())
+                        .userIgg(entry.getMemberIgg())
+                        .role(entry.getRole())
+                        .build());
+            }
+            statuses.putIfAbsent(entry.getMemberIgg(), status);
+            results.add(BulkAddTeamSpaceMemberRowDTO.builder()
+                    .memberIgg(entry.getMemberIgg())
+                    .status(status)
+                    .build());
+        }
+
+        // Batched inserts
+        List<TeamSpaceMember> addedMembers = memberRepository.saveAll(input.getTeamSpaceId(), newMembers);
+        Map<String, TeamSpaceMemberDTO> savedMembers = addedMembers.stream()
+                .collect(Collectors.toMap(TeamSpaceMember::getUserIgg, memberMapper::toDTO));
+        LocalDateTime now = LocalDateTime.now();
+        outbox.appendAll(addedMembers.stream()
+                .map(member -> new TeamSpaceMemberAddedEvent(input.getTeamSpaceId(), member.getUserIgg(), member.getRole(),
+                        requestingUserIgg, now))
+                .collect(Collectors.toList()));
+        results.stream()
+                .filter(row -> row.getStatus() == BulkAddMemberStatus.ADDED)
+                .forEach(row -> row.setMember(savedMembers.get(row.getMemberIgg())));
+
+        // Negative role lookups for these users may be cached
+        savedMembers.keySet().forEach(memberIgg ->
+                eventPublisher.publishEvent(new TeamSpaceMembershipChangedEvent(input.getTeamSpaceId(), memberIgg)));
+
+        log.info("Bulk add completed for team space {}: {} added, {} rejected",
+                input.getTeamSpaceId(), savedMembers.size(), results.size() - savedMembers.size());
+
+        return BulkAddTeamSpaceMembersResultDTO.builder()
+                .teamSpaceId(input.getTeamSpaceId())
+                .addedCount(savedMembers.size())
+                .rejectedCount(results.size() - savedMembers.size())
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddTeamSpaceMembersRequest {
+    @NotNull
+    private Long teamSpaceId;
+
+    @NotEmpty
+    @Size(max = 1000)
+    @Valid
+    private List<BulkTeamSpaceMemberEntry> members;
+}
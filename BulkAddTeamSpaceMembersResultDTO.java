@@ -0,0 +1,10 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddTeamSpaceMembersResultDTO {
+    private Long teamSpaceId;
+    private int addedCount;
+    private int rejectedCount;
+    private List<BulkAddTeamSpaceMemberRowDTO> results;
+}
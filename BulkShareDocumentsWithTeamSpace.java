@@ -0,0 +1,3 @@
+public interface BulkShareDocumentsWithTeamSpace extends Command {
+    BulkShareJobDTO handle(BulkShareDocumentsWithTeamSpaceRequest input, RequestContext context);
+}
@@ -0,0 +1,65 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkShareDocumentsWithTeamSpaceImpl implements BulkShareDocumentsWithTeamSpace {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final FolderRepository folderRepository;
+    private final TeamSpaceDocumentRepository teamSpaceDocumentRepository;
+    private final DocumentReadAccessChecker readAccessChecker;
+    private final BulkShareJobRegistry jobRegistry;
+    private final BulkShareJobRunner jobRunner;
+
+    @Override
+    // Read-write: requireActive locks the team space row
+    @Transactional
+    public BulkShareJobDTO handle(BulkShareDocumentsWithTeamSpaceRequest input, RequestContext context) {
+        log.info("Bulk sharing into folder {} of team space {}", input.getTargetFolderId(), input.getTeamSpaceId());
+
+        boolean hasDocumentIds = input.getDocumentIds() != null && !input.getDocumentIds().isEmpty();
+        if ((input.getSourceFolderId() == null) == !hasDocumentIds) {
+            throw new IllegalArgumentException("Either a source folder or a list of documents must be provided");
+        }
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Verify permissions, once for the whole job
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can share documents");
+        permissionChecker.requireActive(input.getTeamSpaceId());
+
+        // Verify target folder belongs to the team space
+        Folder targetFolder = folderRepository.findById(input.getTargetFolderId())
+                .orElseThrow(() -> new IllegalArgumentException("Target folder not found"));
+        if (targetFolder.getTeamSpace() == null || !input.getTeamSpaceId().equals(targetFolder.getTeamSpace().getId())) {
+            throw new IllegalArgumentException("Target folder must belong to the specified team space");
+        }
+
+        // Verify the user can read every source before the job is queued, the job itself runs unchecked.
+        // Subfolders belong to the team space or to the owner of the source folder, checking the root covers them
+        if (input.getSourceFolderId() != null) {
+            Folder sourceFolder = folderRepository.findById(input.getSourceFolderId())
+                    .orElseThrow(() -> new IllegalArgumentException("Source folder not found"));
+            readAccessChecker.requireReadable(sourceFolder, requestingUserIgg);
+        } else {
+            // One check per distinct folder, not per document
+            Set<Long> documentIds = Set.copyOf(input.getDocumentIds());
+            if (teamSpaceDocumentRepository.countOutsideFolders(documentIds) > 0) {
+                throw new AccessDeniedException("Documents outside of a folder cannot be shared");
+            }
+            teamSpaceDocumentRepository.findFoldersOf(documentIds)
+                    .forEach(folder -> readAccessChecker.requireReadable(folder, requestingUserIgg));
+        }
+
+        BulkShareJob job = new BulkShareJob(input.getTeamSpaceId(), input.getTargetFolderId(),
+                input.getSourceFolderId(), hasDocumentIds ? List.copyOf(input.getDocumentIds()) : null, requestingUserIgg);
+        jobRegistry.register(job);
+        try {
+            jobRunner.submit(job);
+        } catch (IllegalStateException e) {
+            jobRegistry.remove(job.getId());
+            throw e;
+        }
+
+        log.info("Bulk share {} queued by user {}", job.getId(), requestingUserIgg);
+        return job.toDTO();
+    }
+}
@@ -0,0 +1,17 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkShareDocumentsWithTeamSpaceRequest {
+    @NotNull
+    private Long teamSpaceId;
+
+    @NotNull
+    private Long targetFolderId;
+
+    // Either a source folder, shared with all its sub-folders, or an explicit list of documents
+    private Long sourceFolderId;
+
+    @Size(max = 50000)
+    private List<Long> documentIds;
+}
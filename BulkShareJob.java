@@ -0,0 +1,67 @@
+// Progress of one bulk share, written by the worker thread and read by the status endpoint
+@Getter
+public class BulkShareJob {
+    private final String id = UUID.randomUUID().toString();
+    private final Long teamSpaceId;
+    private final Long targetFolderId;
+    private final Long sourceFolderId;
+    private final List<Long> documentIds;
+    private final String requestedBy;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger sharedCount = new AtomicInteger();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+    private volatile BulkShareJobStatus status = BulkShareJobStatus.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile int totalCount;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public BulkShareJob(Long teamSpaceId, Long targetFolderId, Long sourceFolderId, List<Long> documentIds, String requestedBy) {
+        this.teamSpaceId = teamSpaceId;
+        this.targetFolderId = targetFolderId;
+        this.sourceFolderId = sourceFolderId;
+        this.documentIds = documentIds;
+        this.requestedBy = requestedBy;
+    }
+
+    void start(int totalCount) {
+        this.totalCount = totalCount;
+        this.startedAt = LocalDateTime.now();
+        this.status = BulkShareJobStatus.RUNNING;
+    }
+
+    void chunkDone(int processed, int shared) {
+        processedCount.addAndGet(processed);
+        sharedCount.addAndGet(shared);
+        skippedCount.addAndGet(processed - shared);
+    }
+
+    void finish(BulkShareJobStatus status, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    public BulkShareJobDTO toDTO() {
+        return BulkShareJobDTO.builder()
+                .jobId(id)
+                .teamSpaceId(teamSpaceId)
+                .targetFolderId(targetFolderId)
+                .status(status)
+                .totalCount(totalCount)
+                .processedCount(processedCount.get())
+                .sharedCount(sharedCount.get())
+                .skippedCount(skippedCount.get())
+                .error(error)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkShareJobDTO {
+    private String jobId;
+    private Long teamSpaceId;
+    private Long targetFolderId;
+    private BulkShareJobStatus status;
+    private int totalCount;
+    private int processedCount;
+    private int sharedCount;
+    private int skippedCount;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
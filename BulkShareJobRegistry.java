@@ -0,0 +1,37 @@
+// Jobs are kept in memory: progress is lost on restart, already shared chunks stay committed
+@Component
+@Slf4j
+public class BulkShareJobRegistry {
+    private final Map<String, BulkShareJob> jobs = new ConcurrentHashMap<>();
+    private final Duration retention;
+
+    public BulkShareJobRegistry(@Value("${teamspace.bulk-share.retention:PT1H}") Duration retention) {
+        this.retention = retention;
+    }
+
+    public void register(BulkShareJob job) {
+        purgeFinishedJobs();
+        jobs.put(job.getId(), job);
+    }
+
+    public void remove(String jobId) {
+        jobs.remove(jobId);
+    }
+
+    public BulkShareJob get(String jobId, String requestingUserIgg) {
+        BulkShareJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Bulk share job not found");
+        }
+        // Verify the job belongs to the requesting user
+        if (!job.getRequestedBy().equals(requestingUserIgg)) {
+            throw new AccessDeniedException("Only the user who started the bulk share can access it");
+        }
+        return job;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getStatus().isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
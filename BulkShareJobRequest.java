@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkShareJobRequest {
+    @NotBlank
+    private String jobId;
+}
@@ -0,0 +1,119 @@
+@Component
+@Slf4j
+public class BulkShareJobRunner {
+    private static final int CHUNK_SIZE = 200;
+
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceFolderRepository teamSpaceFolderRepository;
+    private final TeamSpaceDocumentRepository teamSpaceDocumentRepository;
+    private final FolderRepository folderRepository;
+    private final SharedDocumentFactory sharedDocumentFactory;
+    private final ContentBlobService contentBlobService;
+    private final TeamSpaceOutbox outbox;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate chunkTransaction;
+    // Dedicated small pool: bulk shares are long running and must not starve the request threads
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    public BulkShareJobRunner(TeamSpacePermissionChecker permissionChecker,
+                              TeamSpaceFolderRepository teamSpaceFolderRepository,
+                              TeamSpaceDocumentRepository teamSpaceDocumentRepository,
+                              FolderRepository folderRepository,
+                              SharedDocumentFactory sharedDocumentFactory,
+                              ContentBlobService contentBlobService,
+                              TeamSpaceOutbox outbox,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${teamspace.bulk-share.workers:2}") int workers,
+                              @Value("${teamspace.bulk-share.queue-capacity:20}") int queueCapacity) {
+        this.permissionChecker = permissionChecker;
+        this.teamSpaceFolderRepository = teamSpaceFolderRepository;
+        this.teamSpaceDocumentRepository = teamSpaceDocumentRepository;
+        this.folderRepository = folderRepository;
+        this.sharedDocumentFactory = sharedDocumentFactory;
+        this.contentBlobService = contentBlobService;
+        this.outbox = outbox;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("bulk-share-");
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public void submit(BulkShareJob job) {
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            throw new IllegalStateException("Too many bulk shares in progress, retry later");
+        }
+    }
+
+    private void run(BulkShareJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(BulkShareJobStatus.CANCELLED, null);
+            return;
+        }
+        try {
+            List<Long> documentIds = readOnlyTransaction.execute(status -> resolveDocumentIds(job));
+            job.start(documentIds.size());
+            log.info("Bulk share {} started: {} documents to share with team space {}",
+                    job.getId(), documentIds.size(), job.getTeamSpaceId());
+
+            for (int from = 0; from < documentIds.size(); from += CHUNK_SIZE) {
+                if (job.isCancelRequested()) {
+                    log.info("Bulk share {} cancelled after {} documents", job.getId(), job.getProcessedCount().get());
+                    job.finish(BulkShareJobStatus.CANCELLED, null);
+                    return;
+                }
+                List<Long> chunk = documentIds.subList(from, Math.min(from + CHUNK_SIZE, documentIds.size()));
+                // One transaction per chunk: a failure only rolls back the current chunk
+                int shared = chunkTransaction.execute(status -> shareChunk(job, chunk));
+                job.chunkDone(chunk.size(), shared);
+            }
+
+            log.info("Bulk share {} completed: {} documents shared", job.getId(), job.getSharedCount().get());
+            job.finish(BulkShareJobStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("Bulk share {} failed after {} documents", job.getId(), job.getProcessedCount().get(), e);
+            job.finish(BulkShareJobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private List<Long> resolveDocumentIds(BulkShareJob job) {
+        if (job.getSourceFolderId() != null) {
+            return teamSpaceDocumentRepository.findIdsByFolderIds(
+                    teamSpaceFolderRepository.findSubtreeIds(job.getSourceFolderId()));
+        }
+        return new ArrayList<>(new LinkedHashSet<>(job.getDocumentIds()));
+    }
+
+    private int shareChunk(BulkShareJob job, List<Long> chunk) {
+        // The team space may have been archived since the job was queued: the job fails on its next chunk
+        permissionChecker.requireActive(job.getTeamSpaceId());
+        Folder targetFolder = folderRepository.findById(job.getTargetFolderId())
+                .orElseThrow(() -> new IllegalStateException("Target folder no longer exists"));
+
+        // Ids that no longer resolve to a document are counted as skipped
+        List<Document> sharedDocuments = teamSpaceDocumentRepository.findAllByIds(chunk).stream()
+                .map(document -> sharedDocumentFactory.createSharedCopy(document, targetFolder))
+                .collect(Collectors.toList());
+        List<Document> savedDocuments = teamSpaceDocumentRepository.saveAll(sharedDocuments);
+        outbox.appendAll(savedDocuments.stream()
+                .map(document -> sharedDocumentFactory.sharedEvent(document, job.getTeamSpaceId(), job.getRequestedBy()))
+                .collect(Collectors.toList()));
+
+        // One reference update per distinct blob of the chunk
+        savedDocuments.stream()
+                .filter(document -> document.getContentHash() != null)
+                .collect(Collectors.groupingBy(Document::getContentHash, Collectors.counting()))
+                .forEach(contentBlobService::retain);
+        return savedDocuments.size();
+    }
+}
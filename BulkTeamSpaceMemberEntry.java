@@ -0,0 +1,11 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTeamSpaceMemberEntry {
+    @NotEmpty
+    private String memberIgg;
+
+    @NotNull
+    private TeamSpaceRole role;
+}
@@ -0,0 +1,3 @@
+public interface CancelBulkShareJob extends Command {
+    BulkShareJobDTO handle(BulkShareJobRequest input, RequestContext context);
+}
@@ -0,0 +1,19 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CancelBulkShareJobImpl implements CancelBulkShareJob {
+    private final BulkShareJobRegistry jobRegistry;
+
+    @Override
+    public BulkShareJobDTO handle(BulkShareJobRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        BulkShareJob job = jobRegistry.get(input.getJobId(), requestingUserIgg);
+
+        // The worker stops before its next chunk, chunks already committed stay shared
+        if (!job.getStatus().isFinished()) {
+            log.info("Cancelling bulk share {}", job.getId());
+            job.requestCancel();
+        }
+        return job.toDTO();
+    }
+}
@@ -0,0 +1,142 @@
+// Staging area of the uploads. Content is written to one file per upload and hashed on the fly.
+// ContentBlobService copies a staged file into the blob store before the commit, and deletes it once the commit is done.
+@Component
+@Slf4j
+public class ChunkedUploadStorage {
+    private static final long TRANSFER_SIZE = 8L * 1024 * 1024;
+
+    private final Path stagingDir;
+    // Running SHA-256 of each session, tagged with the offset it has consumed up to
+    private final Map<String, DigestState> digests = new ConcurrentHashMap<>();
+
+    public ChunkedUploadStorage(@Value("${documents.storage.root-dir}") Path storageRoot) throws IOException {
+        this.stagingDir = Files.createDirectories(storageRoot.resolve(".uploads"));
+    }
+
+    public void writeChunk(String sessionId, long offset, long length, InputStream content) throws IOException {
+        DigestState state = digests.computeIfAbsent(sessionId, id -> new DigestState());
+        synchronized (state) {
+            // Already on disk: a duplicate that waited here while later chunks were written, or a retry whose
+            // acknowledgement failed. Rewriting it would truncate the file, later chunks included
+            if (offset + length <= state.offset) {
+                log.debug("Chunk at offset {} of upload session {} already written", offset, sessionId);
+                return;
+            }
+            if (offset < state.offset) {
+                throw new IllegalStateException("Chunk at offset " + offset + " overlaps the " + state.offset + " bytes already written");
+            }
+            Path staged = stagedFile(sessionId);
+            // A previous attempt of this chunk may have failed before being acknowledged
+            MessageDigest digest = state.offset == offset ? cloneDigest(state.digest) : rehash(staged, offset);
+            try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest))) {
+                // Drop whatever a failed attempt left after the last acknowledged chunk
+                channel.truncate(offset);
+                long written = 0;
+                while (written < length) {
+                    long transferred = channel.transferFrom(source, offset + written, length - written);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    written += transferred;
+                }
+                if (written != length) {
+                    throw new IllegalArgumentException("Chunk is truncated: expected " + length + " bytes, received " + written);
+                }
+                channel.force(false);
+            }
+            state.digest = digest;
+            state.offset = offset + length;
+        }
+    }
+
+    public String contentHash(String sessionId, long totalSize) throws IOException {
+        DigestState state = digests.computeIfAbsent(sessionId, id -> new DigestState());
+        synchronized (state) {
+            MessageDigest digest = state.offset == totalSize ? cloneDigest(state.digest) : rehash(stagedFile(sessionId), totalSize);
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    // Stages a whole upload in one pass, used by the single request multipart path
+    public StagedUpload stage(InputStream content) throws IOException {
+        Path staged = stagingDir.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = newDigest();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest))) {
+            long transferred;
+            while ((transferred = channel.transferFrom(source, size, TRANSFER_SIZE)) > 0) {
+                size += transferred;
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+        return new StagedUpload(staged, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    public Path stagedFile(String sessionId) {
+        return stagingDir.resolve(sessionId + ".part");
+    }
+
+    // The session is committed, its staged file is deleted by ContentBlobService once the transaction commits
+    public void release(String sessionId) {
+        digests.remove(sessionId);
+    }
+
+    public void discard(String sessionId) {
+        digests.remove(sessionId);
+        discard(stagedFile(sessionId));
+    }
+
+    public void discard(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("Could not delete staged upload {}", staged, e);
+        }
+    }
+
+    // Slow path after a restart or a failed chunk: hash the acknowledged prefix again
+    private MessageDigest rehash(Path staged, long length) throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long remaining = length;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    throw new IllegalStateException("Staged upload is shorter than its acknowledged size");
+                }
+                buffer.flip();
+                digest.update(buffer);
+                remaining -= read;
+            }
+        }
+        return digest;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest cloneDigest(MessageDigest digest) {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class DigestState {
+        private MessageDigest digest = newDigest();
+        private long offset;
+    }
+}
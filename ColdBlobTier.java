@@ -0,0 +1,41 @@
+// Moves blobs between the hot blob store and the cold one. A blob is readable as long as one of the two holds it.
+@Component
+@Slf4j
+public class ColdBlobTier {
+    private final BlobStore hotStore;
+    private final BlobStore coldStore;
+
+    public ColdBlobTier(BlobStore blobStore, @Qualifier("coldBlobStore") BlobStore coldBlobStore) {
+        this.hotStore = blobStore;
+        this.coldStore = coldBlobStore;
+    }
+
+    public void demote(String sha256) throws IOException {
+        if (!hotStore.exists(sha256)) {
+            return;
+        }
+        try (InputStream content = hotStore.open(sha256)) {
+            coldStore.put(sha256, content);
+        }
+        hotStore.delete(sha256);
+    }
+
+    // The cold copy is kept: it is dropped by the collector or on the next demotion
+    public void promote(String sha256) throws IOException {
+        if (hotStore.exists(sha256) || !coldStore.exists(sha256)) {
+            return;
+        }
+        log.info("Rehydrating blob {} from the cold tier", sha256);
+        try (InputStream content = coldStore.open(sha256)) {
+            hotStore.put(sha256, content);
+        }
+    }
+
+    public boolean isCold(String sha256) {
+        return !hotStore.exists(sha256) && coldStore.exists(sha256);
+    }
+
+    public void deleteColdCopy(String sha256) throws IOException {
+        coldStore.delete(sha256);
+    }
+}
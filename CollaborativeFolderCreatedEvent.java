@@ -0,0 +1,13 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CollaborativeFolderCreatedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private Long folderId;
+    private Long parentFolderId;
+    private String name;
+    private String description;
+    private String createdBy;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,10 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaborativeFolderTreeDTO {
+    // From the team space root down to the parent of the requested folder
+    private List<FolderDTO> breadcrumbs;
+    // The requested folder first, then its descendants level by level
+    private List<FolderTreeNodeDTO> subtree;
+}
@@ -0,0 +1,82 @@
+// Times every Command handler and records the SQL statements and entity loads it caused.
+// Exposed as command.handle (histogram, tagged by command and outcome), command.sql.statements and
+// command.entity.loads; a handler going over the statement threshold is logged as a probable N+1.
+@Aspect
+@Component
+@Slf4j
+public class CommandMetricsAspect {
+    private final MeterRegistry meterRegistry;
+    private final CommandQueryStatistics queryStatistics;
+    private final int statementWarnThreshold;
+    private final Map<Class<?>, String> commandNames = new ConcurrentHashMap<>();
+
+    public CommandMetricsAspect(MeterRegistry meterRegistry,
+                                CommandQueryStatistics queryStatistics,
+                                @Value("${commands.metrics.statement-warn-threshold:50}") int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.queryStatistics = queryStatistics;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    // The controllers implement the command interfaces too, only the handlers themselves are measured
+    // Fully qualified: annotation-style pointcuts do not see the imports of the file
+    @Around("execution(* com.socgen.unibank.platform.domain.Command+.handle(..))"
+            + " && !@within(org.springframework.web.bind.annotation.RestController)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String command = commandNames.computeIfAbsent(AopUtils.getTargetClass(joinPoint.getTarget()), Class::getSimpleName);
+        CommandQueryStatistics.Counts counts = queryStatistics.open();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("command.handle")
+                    .description("Command handler latency")
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            queryStatistics.close(counts);
+            if (counts != null) {
+                record(command, counts);
+            }
+        }
+    }
+
+    private void record(String command, CommandQueryStatistics.Counts counts) {
+        DistributionSummary.builder("command.sql.statements")
+                .description("JDBC statements prepared by one command, through Hibernate or JdbcTemplate")
+                .tag("command", command)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+        DistributionSummary.builder("command.entity.loads")
+                .description("Entities loaded by one command")
+                .tag("command", command)
+                .register(meterRegistry)
+                .record(counts.getEntityLoads());
+        if (counts.getStatements() > statementWarnThreshold) {
+            meterRegistry.counter("command.n_plus_one.warnings", "command", command).increment();
+            log.warn("{} issued {} SQL statements and loaded {} entities, probable N+1 query",
+                    command, counts.getStatements(), counts.getEntityLoads());
+        }
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof AccessDeniedException) {
+            return "access_denied";
+        }
+        if (e instanceof IllegalArgumentException) {
+            return "illegal_argument";
+        }
+        if (e instanceof IllegalStateException) {
+            return "illegal_state";
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            return "conflict";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,96 @@
+// Counts the SQL statements and the entity loads issued by the current thread while a command is running.
+// Statements are counted where they are prepared, on the connections of the wrapped DataSource: the JdbcTemplate
+// paths (search index, cold storage) are counted along with Hibernate. Entity loads come from the session factory
+// interceptor. Shared by all sessions and connections, the counters are kept per thread.
+@Component
+public class CommandQueryStatistics implements Interceptor, HibernatePropertiesCustomizer, BeanPostProcessor {
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    // Starts counting for the outermost command of the thread, null when a command is already counting
+    public Counts open() {
+        if (current.get() != null) {
+            return null;
+        }
+        Counts counts = new Counts();
+        current.set(counts);
+        return counts;
+    }
+
+    public void close(Counts counts) {
+        if (counts != null) {
+            current.remove();
+        }
+    }
+
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_FACTORIES.contains(method.getName())) {
+                        Counts counts = current.get();
+                        if (counts != null) {
+                            counts.statements++;
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+        return false;
+    }
+
+    // Only touched by its own thread
+    public static class Counts {
+        private int statements;
+        private int entityLoads;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntityLoads() {
+            return entityLoads;
+        }
+    }
+
+    // DelegatingDataSource keeps the pool reachable through unwrap, for the pool metrics
+    private class CountingDataSource extends DelegatingDataSource {
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+    }
+}
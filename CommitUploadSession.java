@@ -0,0 +1,3 @@
+public interface CommitUploadSession extends Command {
+    DocumentVersionDTO handle(CommitUploadSessionRequest input, RequestContext context);
+}
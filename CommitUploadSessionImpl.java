@@ -0,0 +1,67 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommitUploadSessionImpl implements CommitUploadSession {
+    private final UploadSessionAccessChecker sessionAccessChecker;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ChunkedUploadStorage uploadStorage;
+    private final ContentBlobService contentBlobService;
+    private final DocumentUploadHelper uploadHelper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // No transaction around the hash and the copy into the blob store: up to 10 GB of I/O must not hold a pooled
+    // connection nor the blob row lock. Only the reference, the version and the session update run in a transaction.
+    @Override
+    public DocumentVersionDTO handle(CommitUploadSessionRequest input, RequestContext context) {
+        log.info("Committing upload session {}", input.getSessionId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        UploadSession session = sessionAccessChecker.requireOpen(input.getSessionId(), requestingUserIgg);
+
+        if (!session.isComplete()) {
+            throw new IllegalStateException("Upload is incomplete: " + session.getReceivedBytes() + " of " + session.getTotalSize() + " bytes received");
+        }
+
+        try {
+            String contentHash = uploadStorage.contentHash(session.getId(), session.getTotalSize());
+            if (input.getSha256() != null && !input.getSha256().equalsIgnoreCase(contentHash)) {
+                throw new IllegalArgumentException("Checksum mismatch: the uploaded content hashes to " + contentHash);
+            }
+
+            CreateDocumentVersionRequest versionRequest = objectMapper.readValue(session.getVersionRequest(), CreateDocumentVersionRequest.class);
+
+            // Deduplicated against the blob store, the staged file is only deleted once the transaction below commits
+            Path stagedFile = uploadStorage.stagedFile(session.getId());
+            contentBlobService.prepare(stagedFile, contentHash, session.getTotalSize());
+
+            return transactionTemplate.execute(status -> {
+                // Read again: the session may have been committed or aborted during the copy
+                UploadSession current = sessionAccessChecker.requireOpen(input.getSessionId(), requestingUserIgg);
+                try {
+                    String location = contentBlobService.store(stagedFile, contentHash, current.getTotalSize());
+                    DocumentVersionDTO version = uploadHelper.registerStoredVersion(StoredDocumentContent.builder()
+                            .location(location)
+                            .fileName(current.getFileName())
+                            .contentType(current.getContentType())
+                            .size(current.getTotalSize())
+                            .sha256(contentHash)
+                            .build(), versionRequest, context);
+
+                    current.setStatus(UploadSessionStatus.COMMITTED);
+                    current.setContentHash(contentHash);
+                    // Checked against the session version, a concurrent commit fails instead of registering twice
+                    uploadSessionRepository.save(current);
+                    uploadStorage.release(current.getId());
+                    log.info("Upload session {} committed", current.getId());
+
+                    return version;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not commit upload session " + current.getId(), e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not commit upload session " + session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommitUploadSessionRequest {
+    @NotNull
+    private String sessionId;
+
+    // Optional end-to-end check of the hex SHA-256 computed by the client
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String sha256;
+}
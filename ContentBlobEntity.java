@@ -0,0 +1,29 @@
+@Entity
+@Table(name = "content_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentBlobEntity {
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BlobTier tier;
+
+    // Set when the last reference goes away, the collector waits for a grace period after it
+    @Column(name = "unreferenced_since")
+    private LocalDateTime unreferencedSince;
+}
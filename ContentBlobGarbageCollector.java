@@ -0,0 +1,55 @@
+@Component
+@Slf4j
+public class ContentBlobGarbageCollector {
+    private static final int BATCH_SIZE = 500;
+
+    private final ContentBlobRepository contentBlobRepository;
+    private final BlobStore blobStore;
+    private final ColdBlobTier coldBlobTier;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+
+    public ContentBlobGarbageCollector(ContentBlobRepository contentBlobRepository,
+                                       BlobStore blobStore,
+                                       ColdBlobTier coldBlobTier,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${documents.blobs.gc-grace-period:PT24H}") Duration gracePeriod) {
+        this.contentBlobRepository = contentBlobRepository;
+        this.blobStore = blobStore;
+        this.coldBlobTier = coldBlobTier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${documents.blobs.gc-interval:PT1H}")
+    public void collect() {
+        LocalDateTime threshold = LocalDateTime.now().minus(gracePeriod);
+        int deleted = 0;
+        for (String hash : contentBlobRepository.findCollectable(threshold, BATCH_SIZE)) {
+            try {
+                // One transaction per blob: the file is deleted while the row delete still holds its lock,
+                // an upload of the same content waits and then stores the bytes again
+                Boolean collected = transactionTemplate.execute(status -> {
+                    if (!contentBlobRepository.deleteIfUnreferenced(hash, threshold)) {
+                        return false;
+                    }
+                    try {
+                        blobStore.delete(hash);
+                        coldBlobTier.deleteColdCopy(hash);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return true;
+                });
+                if (Boolean.TRUE.equals(collected)) {
+                    deleted++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not collect blob {}", hash, e);
+            }
+        }
+        if (deleted > 0) {
+            log.info("Collected {} unreferenced blobs", deleted);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+// Reference counts are only changed through single-statement updates, the row lock they take
+// serializes uploads of a blob with its garbage collection
+@Repository
+public interface ContentBlobJpaRepository extends JpaRepository<ContentBlobEntity, String> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_blobs"))
+    @Query(value = "INSERT INTO content_blobs (hash, size, ref_count, created_at) VALUES (:hash, :size, :count, CURRENT_TIMESTAMP)"
+            + " ON CONFLICT (hash) DO UPDATE SET ref_count = content_blobs.ref_count + :count, unreferenced_since = NULL",
+            nativeQuery = true)
+    int upsertReferences(@Param("hash") String hash, @Param("size") long size, @Param("count") long count);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_blobs"))
+    @Query(value = "UPDATE content_blobs SET ref_count = ref_count + :count, unreferenced_since = NULL WHERE hash = :hash",
+            nativeQuery = true)
+    int addReferences(@Param("hash") String hash, @Param("count") long count);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_blobs"))
+    @Query(value = "UPDATE content_blobs SET ref_count = ref_count - 1,"
+            + " unreferenced_since = CASE WHEN ref_count = 1 THEN CURRENT_TIMESTAMP ELSE unreferenced_since END"
+            + " WHERE hash = :hash AND ref_count > 0", nativeQuery = true)
+    int releaseReference(@Param("hash") String hash);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_blobs"))
+    @Query(value = "INSERT INTO content_blobs (hash, size, ref_count, created_at, unreferenced_since)"
+            + " VALUES (:hash, :size, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) ON CONFLICT (hash) DO NOTHING",
+            nativeQuery = true)
+    int insertUnreferenced(@Param("hash") String hash, @Param("size") long size);
+
+    @Query("SELECT b.hash FROM ContentBlobEntity b WHERE b.hash IN :hashes")
+    Set<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+
+    @Query("SELECT b.hash FROM ContentBlobEntity b WHERE b.refCount = 0 AND b.unreferencedSince < :threshold")
+    List<String> findCollectable(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_blobs"))
+    @Query(value = "DELETE FROM content_blobs WHERE hash = :hash AND ref_count = 0 AND unreferenced_since < :threshold",
+            nativeQuery = true)
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("threshold") LocalDateTime threshold);
+}
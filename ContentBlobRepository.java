@@ -0,0 +1,9 @@
+public interface ContentBlobRepository {
+    void addReferences(String hash, long size, long count);
+    boolean addReferences(String hash, long count);
+    Set<String> findExistingHashes(Collection<String> hashes);
+    void releaseReference(String hash);
+    void registerUnreferenced(String hash, long size);
+    List<String> findCollectable(LocalDateTime threshold, int limit);
+    boolean deleteIfUnreferenced(String hash, LocalDateTime threshold);
+}
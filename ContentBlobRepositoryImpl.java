@@ -0,0 +1,43 @@
+@Component
+@RequiredArgsConstructor
+public class ContentBlobRepositoryImpl implements ContentBlobRepository {
+    private final ContentBlobJpaRepository contentBlobJpaRepository;
+
+    @Override
+    public void addReferences(String hash, long size, long count) {
+        contentBlobJpaRepository.upsertReferences(hash, size, count);
+    }
+
+    @Override
+    public boolean addReferences(String hash, long count) {
+        return contentBlobJpaRepository.addReferences(hash, count) == 1;
+    }
+
+    @Override
+    public Set<String> findExistingHashes(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Set.of();
+        }
+        return contentBlobJpaRepository.findExistingHashes(hashes);
+    }
+
+    @Override
+    public void releaseReference(String hash) {
+        contentBlobJpaRepository.releaseReference(hash);
+    }
+
+    @Override
+    public void registerUnreferenced(String hash, long size) {
+        contentBlobJpaRepository.insertUnreferenced(hash, size);
+    }
+
+    @Override
+    public List<String> findCollectable(LocalDateTime threshold, int limit) {
+        return contentBlobJpaRepository.findCollectable(threshold, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String hash, LocalDateTime threshold) {
+        return contentBlobJpaRepository.deleteIfUnreferenced(hash, threshold) == 1;
+    }
+}
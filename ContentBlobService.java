@@ -0,0 +1,115 @@
+@Service
+@Slf4j
+public class ContentBlobService {
+    private final BlobStore blobStore;
+    private final ColdBlobTier coldBlobTier;
+    private final ContentBlobRepository contentBlobRepository;
+    private final TransactionTemplate newTransaction;
+
+    public ContentBlobService(BlobStore blobStore,
+                              ColdBlobTier coldBlobTier,
+                              ContentBlobRepository contentBlobRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.blobStore = blobStore;
+        this.coldBlobTier = coldBlobTier;
+        this.contentBlobRepository = contentBlobRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Called before the transaction that stores the upload: copies the staged file into the store, unless the content
+    // is already there, without holding a connection or the blob row lock. A new blob is registered unreferenced
+    // right away, in its own transaction: if the upload never commits, the collector removes it after the grace period.
+    public void prepare(Path stagedFile, String sha256, long size) throws IOException {
+        coldBlobTier.promote(sha256);
+        if (blobStore.exists(sha256)) {
+            log.info("Upload deduplicated against blob {}", sha256);
+            return;
+        }
+        // Copied and verified against the hash, never moved: the staged file stays until the upload commits
+        try (InputStream content = Files.newInputStream(stagedFile)) {
+            if (blobStore.put(sha256, content)) {
+                newTransaction.executeWithoutResult(status -> contentBlobRepository.registerUnreferenced(sha256, size));
+            }
+        }
+    }
+
+    // Adds one reference to the blob staged by prepare. The staged file is only deleted once the transaction commits:
+    // until then a failed or interrupted commit, a restart included, can be retried from it.
+    // Returns the location to record as the file path of the document.
+    @Transactional
+    public String store(Path stagedFile, String sha256, long size) throws IOException {
+        // Locks the blob row until commit: the collector cannot delete the blob underneath us
+        contentBlobRepository.addReferences(sha256, size, 1);
+        if (!blobStore.exists(sha256)) {
+            // The collector removed the blob between prepare and the lock: copied again, under the lock this time
+            log.warn("Blob {} disappeared before its reference was taken, copying it again", sha256);
+            coldBlobTier.promote(sha256);
+            try (InputStream content = Files.newInputStream(stagedFile)) {
+                blobStore.put(sha256, content);
+            }
+            // The reference is rolled back but the bytes are in the store: hand the blob to the collector
+            afterCompletion(committed -> {
+                if (!committed) {
+                    newTransaction.executeWithoutResult(status -> contentBlobRepository.registerUnreferenced(sha256, size));
+                }
+            });
+        }
+        afterCompletion(committed -> {
+            if (committed) {
+                deleteQuietly(stagedFile);
+            }
+        });
+        return blobStore.location(sha256);
+    }
+
+    // Fails on an unknown blob: a document must never point at content that does not exist
+    @Transactional
+    public void retain(String sha256, long count) {
+        if (sha256 != null && count > 0) {
+            if (!contentBlobRepository.addReferences(sha256, count)) {
+                throw new IllegalStateException("Blob " + sha256 + " does not exist");
+            }
+            // A hot document must not point at a cold blob
+            if (coldBlobTier.isCold(sha256)) {
+                try {
+                    coldBlobTier.promote(sha256);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not rehydrate blob " + sha256, e);
+                }
+            }
+        }
+    }
+
+    public Set<String> findExisting(Collection<String> sha256s) {
+        return contentBlobRepository.findExistingHashes(sha256s);
+    }
+
+    public String location(String sha256) {
+        return blobStore.location(sha256);
+    }
+
+    @Transactional
+    public void release(String sha256) {
+        if (sha256 != null) {
+            contentBlobRepository.releaseReference(sha256);
+        }
+    }
+
+    private void afterCompletion(Consumer<Boolean> callback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete staged file {}", file, e);
+        }
+    }
+}
@@ -2,9 +2,11 @@
 @RequiredArgsConstructor
 @Slf4j
 public class CreateCollaborativeFolderImpl implements CreateCollaborativeFolder {
-    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpacePermissionChecker permissionChecker;
     private final FolderRepository folderRepository;
+    private final FolderHierarchyRepository folderHierarchyRepository;
     private final FolderMapper folderMapper;
+    private final TeamSpaceOutbox outbox;
 
     @Override
     @Transactional
@@ -13,14 +15,14 @@ public class CreateCollaborativeFolderImpl implements CreateCollaborativeFolder
 
         String requestingUserIgg = context.getUser().get().getIgg().toString();
 
-        // Get the team space
-        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
-                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
-
         // Verify if user has permission to create folders
-        if (!teamSpace.isMember(requestingUserIgg)) {
-            throw new AccessDeniedException("Only team space members can create folders");
-        }
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can create folders");
+        permissionChecker.requireActive(input.getTeamSpaceId());
+
+        // The folder only needs the team space identity, not the hydrated aggregate
+        TeamSpace teamSpace = TeamSpace.builder()
+                .id(input.getTeamSpaceId())
+                .build();
 
         // Check parent folder if provided
         Folder parentFolder = null;
@@ -45,6 +47,9 @@ public class CreateCollaborativeFolderImpl implements CreateCollaborativeFolder
 
         // Save folder
         Folder savedFolder = folderRepository.save(folder);
+        folderHierarchyRepository.addFolder(savedFolder.getId(), input.getParentFolderId(), teamSpace.getId());
+        outbox.append(new CollaborativeFolderCreatedEvent(teamSpace.getId(), savedFolder.getId(), input.getParentFolderId(),
+                savedFolder.getName(), savedFolder.getDescription(), requestingUserIgg, LocalDateTime.now()));
         log.info("Collaborative folder created successfully with ID: {}", savedFolder.getId());
 
         return folderMapper.toDTO(savedFolder);
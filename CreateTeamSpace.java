@@ -1,3 +1,3 @@
 public interface CreateTeamSpace extends Command {
-    TeamSpaceDTO handle(CreateTeamSpaceRequest input, RequestContext context);
-}
\ No newline at end of file
+    TeamSpaceSummaryDTO handle(CreateTeamSpaceRequest input, RequestContext context);
+}
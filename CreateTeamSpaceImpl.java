@@ -5,10 +5,11 @@ public class CreateTeamSpaceImpl implements CreateTeamSpace {
     private final TeamSpaceRepository teamSpaceRepository;
     private final UserRepository userRepository;
     private final TeamSpaceMapper teamSpaceMapper;
+    private final TeamSpaceOutbox outbox;
 
     @Override
     @Transactional
-    public TeamSpaceDTO handle(CreateTeamSpaceRequest input, RequestContext context) {
+    public TeamSpaceSummaryDTO handle(CreateTeamSpaceRequest input, RequestContext context) {
         log.info("Creating team space with name: {}", input.getName());
 
         // Get user IGG from context
@@ -19,7 +20,7 @@ public class CreateTeamSpaceImpl implements CreateTeamSpace {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         // Verify team space name is unique
-        if (teamSpaceRepository.existsByNameAndStatus(input.getName(), TeamSpaceStatus.ACTIVE)) {
+        if (teamSpaceRepository.existsActiveByName(input.getName())) {
             throw new IllegalArgumentException("Team space with name " + input.getName() + " already exists");
         }
 
@@ -38,8 +39,11 @@ public class CreateTeamSpaceImpl implements CreateTeamSpace {
 
         TeamSpace savedTeamSpace = teamSpaceRepository.save(teamSpace);
         log.info("Team space created successfully with ID: {}", savedTeamSpace.getId());
+        outbox.append(new TeamSpaceCreatedEvent(savedTeamSpace.getId(), savedTeamSpace.getName(),
+                savedTeamSpace.getDescription(), userIgg, LocalDateTime.now()));
 
-        return teamSpaceMapper.toDTO(savedTeamSpace);
+        // A new team space only holds its owner: no need to map the member and folder collections back
+        return teamSpaceMapper.toSummaryDTO(savedTeamSpace, 1, 0);
     }
 }
 
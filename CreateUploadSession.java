@@ -0,0 +1,3 @@
+public interface CreateUploadSession extends Command {
+    UploadSessionDTO handle(CreateUploadSessionRequest input, RequestContext context);
+}
@@ -0,0 +1,53 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateUploadSessionImpl implements CreateUploadSession {
+    private final DocumentUploadHelper uploadHelper;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${documents.upload.session-ttl:PT24H}")
+    private Duration sessionTtl;
+
+    @Value("${documents.upload.max-size:10GB}")
+    private DataSize maxSize;
+
+    @Override
+    @Transactional
+    public UploadSessionDTO handle(CreateUploadSessionRequest input, RequestContext context) {
+        log.info("Opening upload session for {} ({} bytes)", input.getFileName(), input.getTotalSize());
+
+        if (input.getTotalSize() > maxSize.toBytes()) {
+            throw new IllegalArgumentException("File exceeds the maximum upload size of " + maxSize);
+        }
+
+        // Verify permissions once for the whole upload
+        uploadHelper.checkUploadPermission(input.getVersion().getFolderId(), context);
+        uploadHelper.requireActiveTeamSpace(input.getVersion().getFolderId());
+
+        String versionRequest;
+        try {
+            versionRequest = objectMapper.writeValueAsString(input.getVersion());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid document version request", e);
+        }
+
+        UploadSession session = UploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .userIgg(context.getUser().get().getIgg().toString())
+                .folderId(input.getVersion().getFolderId())
+                .fileName(input.getFileName())
+                .contentType(input.getContentType())
+                .totalSize(input.getTotalSize())
+                .chunkSize(input.getChunkSize())
+                .status(UploadSessionStatus.OPEN)
+                .versionRequest(versionRequest)
+                .expiresAt(LocalDateTime.now().plus(sessionTtl))
+                .build();
+
+        UploadSession savedSession = uploadSessionRepository.save(session);
+        log.info("Upload session {} opened with {} chunks", savedSession.getId(), savedSession.getChunkCount());
+
+        return savedSession.toDTO();
+    }
+}
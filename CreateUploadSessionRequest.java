@@ -0,0 +1,25 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadSessionRequest {
+    @NotEmpty
+    private String fileName;
+
+    private String contentType;
+
+    @NotNull
+    @Min(1)
+    private Long totalSize;
+
+    // 256 KiB to 64 MiB, every chunk but the last one must have exactly this size
+    @NotNull
+    @Min(262144)
+    @Max(67108864)
+    @Builder.Default
+    private Integer chunkSize = 8388608;
+
+    @NotNull
+    @Valid
+    private CreateDocumentVersionRequest version;
+}
@@ -17,6 +17,36 @@ public class DocumentController {
         return createCollaborativeFolder.handle(request, context);
     }
 
+    @Operation(
+        summary = "Move a collaborative folder and its sub-folders under another parent",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @PostMapping("/collaborative/move")
+    public FolderDTO moveCollaborativeFolder(
+            @Valid @RequestBody MoveCollaborativeFolderRequest request,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return moveCollaborativeFolder.handle(request, context);
+    }
+
+    @Operation(
+        summary = "Get the breadcrumbs and the sub-folders of a collaborative folder",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @GetMapping("/collaborative/{folderId}/tree")
+    public CollaborativeFolderTreeDTO getCollaborativeFolderTree(
+            @PathVariable Long folderId,
+            @RequestParam Long teamSpaceId,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return getCollaborativeFolderTree.handle(GetCollaborativeFolderTreeRequest.builder()
+                .teamSpaceId(teamSpaceId)
+                .folderId(folderId)
+                .build(), context);
+    }
+
     @Operation(
         summary = "Share a document with a team space",
         parameters = {
@@ -29,4 +59,122 @@ public class DocumentController {
             @ModelAttribute @GraphQLRootContext RequestContext context) {
         return shareDocumentWithTeamSpace.handle(request, context);
     }
-}
\ No newline at end of file
+
+    @Operation(
+        summary = "Share a folder subtree or a list of documents with a team space in the background",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @PostMapping("/share/bulk")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BulkShareJobDTO bulkShareDocuments(
+            @Valid @RequestBody BulkShareDocumentsWithTeamSpaceRequest request,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return bulkShareDocumentsWithTeamSpace.handle(request, context);
+    }
+
+    @Operation(
+        summary = "Get the progress of a bulk share",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @GetMapping("/share/bulk/{jobId}")
+    public BulkShareJobDTO getBulkShareJob(
+            @PathVariable String jobId,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return getBulkShareJob.handle(BulkShareJobRequest.builder().jobId(jobId).build(), context);
+    }
+
+    @Operation(
+        summary = "Cancel a bulk share",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @DeleteMapping("/share/bulk/{jobId}")
+    public BulkShareJobDTO cancelBulkShareJob(
+            @PathVariable String jobId,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return cancelBulkShareJob.handle(BulkShareJobRequest.builder().jobId(jobId).build(), context);
+    }
+
+    @Operation(
+        summary = "Open a resumable chunked upload session for a new document version",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @PostMapping("/uploads")
+    @ResponseStatus(HttpStatus.CREATED)
+    public UploadSessionDTO createUploadSession(
+            @Valid @RequestBody CreateUploadSessionRequest request,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return createUploadSession.handle(request, context);
+    }
+
+    @Operation(
+        summary = "Upload one chunk of an upload session as the raw request body",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @PutMapping(value = "/uploads/{sessionId}/chunks/{chunkIndex}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public UploadSessionDTO uploadDocumentChunk(
+            @PathVariable String sessionId,
+            @PathVariable Integer chunkIndex,
+            HttpServletRequest servletRequest,
+            @ModelAttribute @GraphQLRootContext RequestContext context) throws IOException {
+        return uploadDocumentChunk.handle(UploadDocumentChunkRequest.builder()
+                .sessionId(sessionId)
+                .chunkIndex(chunkIndex)
+                .contentLength(servletRequest.getContentLengthLong())
+                .content(servletRequest.getInputStream())
+                .build(), context);
+    }
+
+    @Operation(
+        summary = "Get the resume point of an upload session",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @GetMapping("/uploads/{sessionId}")
+    public UploadSessionDTO getUploadSession(
+            @PathVariable String sessionId,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return getUploadSession.handle(UploadSessionRequest.builder().sessionId(sessionId).build(), context);
+    }
+
+    @Operation(
+        summary = "Commit a complete upload session as a new document version",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @PostMapping("/uploads/{sessionId}/commit")
+    @ResponseStatus(HttpStatus.CREATED)
+    public DocumentVersionDTO commitUploadSession(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) String sha256,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return commitUploadSession.handle(CommitUploadSessionRequest.builder()
+                .sessionId(sessionId)
+                .sha256(sha256)
+                .build(), context);
+    }
+
+    @Operation(
+        summary = "Abort an upload session and discard its chunks",
+        parameters = {
+            @Parameter(ref = "entityIdHeader", required = true)
+        }
+    )
+    @DeleteMapping("/uploads/{sessionId}")
+    public UploadSessionDTO abortUploadSession(
+            @PathVariable String sessionId,
+            @ModelAttribute @GraphQLRootContext RequestContext context) {
+        return abortUploadSession.handle(UploadSessionRequest.builder().sessionId(sessionId).build(), context);
+    }
+}
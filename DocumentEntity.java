@@ -8,6 +8,10 @@ public class DocumentEntity {
     @Column(name = "shared_in_team_space")
     private boolean sharedInTeamSpace = false; // default false pour la rétrocompatibilité
 
+    // SHA-256 of the content in the blob store, null for documents stored before deduplication
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "original_document_id")
     private DocumentEntity originalDocument;
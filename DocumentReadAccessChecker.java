@@ -0,0 +1,23 @@
+@Component
+@RequiredArgsConstructor
+public class DocumentReadAccessChecker {
+    private final TeamSpacePermissionChecker permissionChecker;
+
+    // A document can only be shared by a user who can read it: a member of its team space for a collaborative
+    // folder, the owner of the folder for a personal one
+    public void requireReadable(Folder folder, String userIgg) {
+        if (folder.isCollaborative()) {
+            permissionChecker.requireMember(folder.getTeamSpace().getId(), userIgg,
+                    "Only team space members can share documents of collaborative folders");
+        } else if (!userIgg.equals(folder.getUserIgg())) {
+            throw new AccessDeniedException("Only the owner of a personal folder can share its documents");
+        }
+    }
+
+    public void requireReadable(Document document, String userIgg) {
+        if (document.getFolder() == null) {
+            throw new AccessDeniedException("Documents outside of a folder cannot be shared");
+        }
+        requireReadable(document.getFolder(), userIgg);
+    }
+}
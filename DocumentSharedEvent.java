@@ -0,0 +1,15 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class DocumentSharedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private Long documentId;
+    // Null for a document uploaded or imported directly into the team space
+    private Long sourceDocumentId;
+    private Long folderId;
+    private String name;
+    private String description;
+    private String sharedBy;
+    private LocalDateTime occurredAt;
+}
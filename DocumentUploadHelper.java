@@ -1,25 +1,143 @@
 @Slf4j
 public class DocumentUploadHelper {
     // ... autres champs et méthodes ...
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final ChunkedUploadStorage uploadStorage;
+    private final ContentBlobService contentBlobService;
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final DocumentVersionMapper documentVersionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamSpaceOutbox outbox;
+    private final SharedDocumentFactory sharedDocumentFactory;
 
     public DocumentVersionDTO uploadDocumentVersion(MultipartFile file, CreateDocumentVersionRequest input, RequestContext context) {
         validateFile(file);
 
-        // Vérifier les permissions dans l'espace collaboratif si nécessaire
-        if (input.getFolderId() != null) {
-            Folder folder = folderRepository.findById(input.getFolderId())
+        checkUploadPermission(input.getFolderId(), context);
+
+        // Le fichier est d'abord écrit et copié dans le blob store hors transaction, puis la référence au blob
+        // et la version sont enregistrées ensemble : un échec de l'enregistrement annule aussi la référence
+        StagedUpload staged;
+        try (InputStream content = file.getInputStream()) {
+            staged = uploadStorage.stage(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store uploaded file", e);
+        }
+        try {
+            try {
+                // Un fichier déjà connu (même SHA-256) n'est pas réécrit dans le blob store
+                contentBlobService.prepare(staged.getPath(), staged.getSha256(), staged.getSize());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not store uploaded file", e);
+            }
+            return transactionTemplate.execute(status -> {
+                try {
+                    String location = contentBlobService.store(staged.getPath(), staged.getSha256(), staged.getSize());
+                    return registerStoredVersion(StoredDocumentContent.builder()
+                            .location(location)
+                            .fileName(file.getOriginalFilename())
+                            .contentType(file.getContentType())
+                            .size(staged.getSize())
+                            .sha256(staged.getSha256())
+                            .build(), input, context);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not store uploaded file", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Pas de reprise possible pour un envoi en une seule requête, la copie locale est inutile
+            uploadStorage.discard(staged.getPath());
+            throw e;
+        }
+    }
+
+    // Vérifier les permissions dans l'espace collaboratif si nécessaire
+    public void checkUploadPermission(Long folderId, RequestContext context) {
+        if (folderId != null) {
+            Folder folder = folderRepository.findById(folderId)
                 .orElseThrow(() -> new IllegalArgumentException("Folder not found"));
 
             if (folder.isCollaborative()) {
-                TeamSpace teamSpace = folder.getTeamSpace();
                 String userIgg = context.getUser().get().getIgg().toString();
-                
-                if (!teamSpace.isMember(userIgg)) {
-                    throw new AccessDeniedException("Only team space members can upload documents to collaborative folders");
-                }
+                permissionChecker.requireMember(folder.getTeamSpace().getId(), userIgg,
+                        "Only team space members can upload documents to collaborative folders");
+            }
+        }
+    }
+
+    // Un dossier collaboratif n'accepte plus de document une fois son espace archivé.
+    // Appelé dans la transaction d'écriture, qui garde l'espace verrouillé jusqu'au commit
+    public void requireActiveTeamSpace(Long folderId) {
+        if (folderId != null) {
+            Folder folder = folderRepository.findById(folderId)
+                .orElseThrow(() -> new IllegalArgumentException("Folder not found"));
+            if (folder.isCollaborative()) {
+                permissionChecker.requireActive(folder.getTeamSpace().getId());
             }
         }
+    }
+
+    // Enregistre la version d'un fichier déjà écrit dans le blob store, les permissions sur le dossier ont été vérifiées avant.
+    // Le document est créé avec sa première version, sinon il pointe désormais sur le contenu de la nouvelle version.
+    @Transactional
+    public DocumentVersionDTO registerStoredVersion(StoredDocumentContent content, CreateDocumentVersionRequest input, RequestContext context) {
+        String userIgg = context.getUser().get().getIgg().toString();
+        requireActiveTeamSpace(input.getFolderId());
+
+        Document document;
+        int versionNumber;
+        if (input.getDocumentId() != null) {
+            document = documentRepository.findById(input.getDocumentId())
+                    .orElseThrow(() -> new IllegalArgumentException("Document not found"));
+            // The permission check covered the folder of the request, it must be the folder of the document
+            Long documentFolderId = document.getFolder() != null ? document.getFolder().getId() : null;
+            if (!Objects.equals(documentFolderId, input.getFolderId())) {
+                throw new IllegalArgumentException("Document " + document.getId() + " is not in folder " + input.getFolderId());
+            }
+            versionNumber = documentVersionRepository.findLatestVersionNumber(document.getId()).orElse(0) + 1;
+        } else {
+            Folder folder = input.getFolderId() == null ? null : folderRepository.findById(input.getFolderId())
+                    .orElseThrow(() -> new IllegalArgumentException("Folder not found"));
+            document = Document.builder()
+                    .name(input.getName() != null ? input.getName() : content.getFileName())
+                    .description(input.getDescription())
+                    .status(DocumentStatus.ACTIVE)
+                    .folder(folder)
+                    .tags(new HashSet<>())
+                    .metadata(new HashMap<>())
+                    .build();
+            versionNumber = 1;
+        }
+
+        // Le document porte le contenu de sa dernière version : l'emplacement du blob et son empreinte
+        document.setVersion(versionNumber + ".0");
+        document.setFileType(content.getContentType());
+        document.setFileSize(content.getSize());
+        document.setFilePath(content.getLocation());
+        document.setContentHash(content.getSha256());
+        Document savedDocument = documentRepository.save(document);
+        // Un nouveau document dans un dossier collaboratif entre dans l'espace, comme une copie partagée :
+        // compté dans ses statistiques et indexé pour la recherche. Une nouvelle version ne change ni l'un ni l'autre
+        if (input.getDocumentId() == null && savedDocument.getFolder() != null && savedDocument.getFolder().isCollaborative()) {
+            outbox.append(sharedDocumentFactory.sharedEvent(savedDocument,
+                    savedDocument.getFolder().getTeamSpace().getId(), userIgg));
+        }
+
+        DocumentVersion version = documentVersionRepository.save(DocumentVersion.builder()
+                .document(savedDocument)
+                .versionNumber(versionNumber)
+                .fileName(content.getFileName())
+                .contentType(content.getContentType())
+                .fileSize(content.getSize())
+                .filePath(content.getLocation())
+                .contentHash(content.getSha256())
+                .comment(input.getComment())
+                .createdBy(userIgg)
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("Version {} of document {} registered with content {}", versionNumber, savedDocument.getId(), content.getSha256());
 
-        // ... reste du code existant ...
+        return documentVersionMapper.toDTO(version);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredUploadSessionCleaner {
+    private static final int BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ChunkedUploadStorage uploadStorage;
+
+    @Scheduled(fixedDelayString = "${documents.upload.cleanup-interval:PT1H}")
+    @Transactional
+    public void abortExpiredSessions() {
+        List<UploadSession> expired = uploadSessionRepository.findExpired(LocalDateTime.now(), BATCH_SIZE);
+        for (UploadSession session : expired) {
+            session.setStatus(UploadSessionStatus.ABORTED);
+            uploadSessionRepository.save(session);
+            uploadStorage.discard(session.getId());
+        }
+        if (!expired.isEmpty()) {
+            log.info("Aborted {} expired upload sessions", expired.size());
+        }
+    }
+}
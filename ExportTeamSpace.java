@@ -0,0 +1,3 @@
+public interface ExportTeamSpace extends Command {
+    ResponseEntity<StreamingResponseBody> handle(ExportTeamSpaceRequest input, RequestContext context);
+}
@@ -0,0 +1,33 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportTeamSpaceImpl implements ExportTeamSpace {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceExporter exporter;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> handle(ExportTeamSpaceRequest input, RequestContext context) {
+        log.info("Exporting team space {}", input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Checked on the request thread, before the response is committed
+        permissionChecker.requireAdmin(input.getTeamSpaceId(), requestingUserIgg, "Only admins can export a team space");
+        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        if (teamSpace.getTieredAt() != null) {
+            throw new IllegalStateException("Team space " + input.getTeamSpaceId()
+                    + " is in cold storage, unarchive it before exporting it");
+        }
+
+        StreamingResponseBody body = outputStream -> exporter.export(input.getTeamSpaceId(), outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("team-space-" + input.getTeamSpaceId() + ".ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportTeamSpaceRequest {
+    @NotNull
+    private Long teamSpaceId;
+}
@@ -0,0 +1,25 @@
+// One row per (ancestor, descendant) pair of collaborative folders, including the depth 0 self link
+@Entity
+@Table(name = "folder_closure")
+@Getter
+@Setter
+public class FolderClosureEntity {
+    @EmbeddedId
+    private FolderClosureId id;
+
+    @MapsId("ancestorId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_id")
+    private FolderEntity ancestor;
+
+    @MapsId("descendantId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_id")
+    private FolderEntity descendant;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "team_space_id", nullable = false)
+    private Long teamSpaceId;
+}
@@ -0,0 +1,11 @@
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderClosureId implements Serializable {
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Column(name = "descendant_id")
+    private Long descendantId;
+}
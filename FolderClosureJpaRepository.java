@@ -0,0 +1,68 @@
+@Repository
+public interface FolderClosureJpaRepository extends JpaRepository<FolderClosureEntity, FolderClosureId> {
+
+    // Links the new folder to itself and to every ancestor of its parent
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "folder_closure"))
+    @Query(value = "INSERT INTO folder_closure (ancestor_id, descendant_id, depth, team_space_id)"
+            + " SELECT ancestor_id, :folderId, depth + 1, team_space_id FROM folder_closure WHERE descendant_id = :parentId"
+            + " UNION ALL SELECT :folderId, :folderId, 0, :teamSpaceId", nativeQuery = true)
+    int insertFolder(@Param("folderId") Long folderId,
+                     @Param("parentId") Long parentId,
+                     @Param("teamSpaceId") Long teamSpaceId);
+
+    // Cuts the subtree of the folder from its current ancestors, links inside the subtree are kept
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "folder_closure"))
+    @Query(value = "DELETE FROM folder_closure WHERE descendant_id IN"
+            + " (SELECT descendant_id FROM folder_closure WHERE ancestor_id = :folderId)"
+            + " AND ancestor_id NOT IN (SELECT descendant_id FROM folder_closure WHERE ancestor_id = :folderId)",
+            nativeQuery = true)
+    int detachSubtree(@Param("folderId") Long folderId);
+
+    // Links every folder of the subtree to the new parent and its ancestors
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "folder_closure"))
+    @Query(value = "INSERT INTO folder_closure (ancestor_id, descendant_id, depth, team_space_id)"
+            + " SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1, above.team_space_id"
+            + " FROM folder_closure above CROSS JOIN folder_closure below"
+            + " WHERE above.descendant_id = :parentId AND below.ancestor_id = :folderId", nativeQuery = true)
+    int attachSubtree(@Param("folderId") Long folderId, @Param("parentId") Long parentId);
+
+    // Closure of every folder of a team space inserted with its parent links only, in one statement
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "folder_closure"))
+    @Query(value = "INSERT INTO folder_closure (ancestor_id, descendant_id, depth, team_space_id)"
+            + " WITH RECURSIVE tree (ancestor_id, descendant_id, depth, team_space_id) AS ("
+            + " SELECT id, id, 0, team_space_id FROM folders WHERE team_space_id = :teamSpaceId"
+            + " UNION ALL SELECT t.ancestor_id, f.id, t.depth + 1, t.team_space_id FROM tree t"
+            + " JOIN folders f ON f.parent_id = t.descendant_id AND f.team_space_id = t.team_space_id)"
+            + " SELECT ancestor_id, descendant_id, depth, team_space_id FROM tree", nativeQuery = true)
+    int insertTeamSpaceTree(@Param("teamSpaceId") Long teamSpaceId);
+
+    boolean existsById_AncestorIdAndId_DescendantId(Long ancestorId, Long descendantId);
+
+    @Query("SELECT c.descendant AS folder, p.id AS parentId, c.depth AS depth"
+            + " FROM FolderClosureEntity c JOIN c.descendant f LEFT JOIN f.parent p"
+            + " WHERE c.id.ancestorId = :folderId ORDER BY c.depth, f.name")
+    List<FolderHierarchyNodeView> findSubtree(@Param("folderId") Long folderId);
+
+    // Export cursor over the folders of a team space, parents first: one closure row per folder, the one from its root
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT c.descendant AS folder, p.id AS parentId, c.depth AS depth"
+            + " FROM FolderClosureEntity c JOIN c.ancestor a JOIN c.descendant f LEFT JOIN f.parent p"
+            + " WHERE c.teamSpaceId = :teamSpaceId AND a.parent IS NULL ORDER BY c.depth, f.id")
+    Stream<FolderHierarchyNodeView> streamTreeByTeamSpaceId(@Param("teamSpaceId") Long teamSpaceId);
+
+    @Query("SELECT c.ancestor FROM FolderClosureEntity c"
+            + " WHERE c.id.descendantId = :folderId AND c.depth > 0 ORDER BY c.depth DESC")
+    List<FolderEntity> findAncestors(@Param("folderId") Long folderId);
+
+    @Query("SELECT c.id.ancestorId AS folderId, COUNT(d.id) AS documentCount"
+            + " FROM FolderClosureEntity c, DocumentEntity d"
+            + " WHERE c.teamSpaceId = :teamSpaceId AND d.folder.id = c.id.descendantId"
+            + " GROUP BY c.id.ancestorId")
+    List<FolderDocumentCountView> countDocumentsPerSubtree(@Param("teamSpaceId") Long teamSpaceId);
+}
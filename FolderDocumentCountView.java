@@ -0,0 +1,4 @@
+public interface FolderDocumentCountView {
+    Long getFolderId();
+    Long getDocumentCount();
+}
@@ -1,5 +1,6 @@
 @Entity
 @Table(name = "folders")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TeamSpaceCacheConfig.FOLDERS)
 @Getter
 @Setter
 public class FolderEntity {
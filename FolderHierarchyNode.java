@@ -0,0 +1,7 @@
+@Getter
+@AllArgsConstructor
+public class FolderHierarchyNode {
+    private final Folder folder;
+    private final Long parentId;
+    private final int depth;
+}
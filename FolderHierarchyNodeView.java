@@ -0,0 +1,5 @@
+public interface FolderHierarchyNodeView {
+    FolderEntity getFolder();
+    Long getParentId();
+    Integer getDepth();
+}
@@ -0,0 +1,8 @@
+public interface FolderHierarchyRepository {
+    void addFolder(Long folderId, Long parentId, Long teamSpaceId);
+    void moveSubtree(Long folderId, Long newParentId);
+    boolean isAncestorOf(Long ancestorId, Long descendantId);
+    List<FolderHierarchyNode> findSubtree(Long folderId);
+    List<Folder> findAncestors(Long folderId);
+    Map<Long, Long> countDocumentsPerSubtree(Long teamSpaceId);
+}
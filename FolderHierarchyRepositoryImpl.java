@@ -0,0 +1,44 @@
+@Component
+@RequiredArgsConstructor
+public class FolderHierarchyRepositoryImpl implements FolderHierarchyRepository {
+    private final FolderClosureJpaRepository folderClosureJpaRepository;
+    private final FolderMapper folderMapper;
+
+    @Override
+    public void addFolder(Long folderId, Long parentId, Long teamSpaceId) {
+        folderClosureJpaRepository.insertFolder(folderId, parentId, teamSpaceId);
+    }
+
+    @Override
+    public void moveSubtree(Long folderId, Long newParentId) {
+        folderClosureJpaRepository.detachSubtree(folderId);
+        if (newParentId != null) {
+            folderClosureJpaRepository.attachSubtree(folderId, newParentId);
+        }
+    }
+
+    @Override
+    public boolean isAncestorOf(Long ancestorId, Long descendantId) {
+        return folderClosureJpaRepository.existsById_AncestorIdAndId_DescendantId(ancestorId, descendantId);
+    }
+
+    @Override
+    public List<FolderHierarchyNode> findSubtree(Long folderId) {
+        return folderClosureJpaRepository.findSubtree(folderId).stream()
+                .map(node -> new FolderHierarchyNode(folderMapper.toDomain(node.getFolder()), node.getParentId(), node.getDepth()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Folder> findAncestors(Long folderId) {
+        return folderClosureJpaRepository.findAncestors(folderId).stream()
+                .map(folderMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, Long> countDocumentsPerSubtree(Long teamSpaceId) {
+        return folderClosureJpaRepository.countDocumentsPerSubtree(teamSpaceId).stream()
+                .collect(Collectors.toMap(FolderDocumentCountView::getFolderId, FolderDocumentCountView::getDocumentCount));
+    }
+}
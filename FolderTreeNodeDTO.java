@@ -0,0 +1,11 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderTreeNodeDTO {
+    private FolderDTO folder;
+    private Long parentFolderId;
+    private int depth;
+    // Documents in the folder and all of its sub-folders
+    private long documentCount;
+}
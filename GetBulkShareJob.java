@@ -0,0 +1,3 @@
+public interface GetBulkShareJob extends Command {
+    BulkShareJobDTO handle(BulkShareJobRequest input, RequestContext context);
+}
@@ -0,0 +1,11 @@
+@Service
+@RequiredArgsConstructor
+public class GetBulkShareJobImpl implements GetBulkShareJob {
+    private final BulkShareJobRegistry jobRegistry;
+
+    @Override
+    public BulkShareJobDTO handle(BulkShareJobRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        return jobRegistry.get(input.getJobId(), requestingUserIgg).toDTO();
+    }
+}
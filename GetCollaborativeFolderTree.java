@@ -0,0 +1,3 @@
+public interface GetCollaborativeFolderTree extends Command {
+    CollaborativeFolderTreeDTO handle(GetCollaborativeFolderTreeRequest input, RequestContext context);
+}
@@ -0,0 +1,43 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetCollaborativeFolderTreeImpl implements GetCollaborativeFolderTree {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final FolderHierarchyRepository folderHierarchyRepository;
+    private final FolderMapper folderMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollaborativeFolderTreeDTO handle(GetCollaborativeFolderTreeRequest input, RequestContext context) {
+        log.info("Loading tree of folder {} in team space {}", input.getFolderId(), input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can browse folders");
+
+        List<FolderHierarchyNode> subtree = folderHierarchyRepository.findSubtree(input.getFolderId());
+        if (subtree.isEmpty()) {
+            throw new IllegalArgumentException("Folder not found");
+        }
+        // Verify folder belongs to the team space
+        Folder root = subtree.get(0).getFolder();
+        if (root.getTeamSpace() == null || !input.getTeamSpaceId().equals(root.getTeamSpace().getId())) {
+            throw new IllegalArgumentException("Folder must belong to the specified team space");
+        }
+
+        Map<Long, Long> documentCounts = folderHierarchyRepository.countDocumentsPerSubtree(input.getTeamSpaceId());
+
+        return CollaborativeFolderTreeDTO.builder()
+                .breadcrumbs(folderHierarchyRepository.findAncestors(input.getFolderId()).stream()
+                        .map(folderMapper::toDTO)
+                        .collect(Collectors.toList()))
+                .subtree(subtree.stream()
+                        .map(node -> FolderTreeNodeDTO.builder()
+                                .folder(folderMapper.toDTO(node.getFolder()))
+                                .parentFolderId(node.getParentId())
+                                .depth(node.getDepth())
+                                .documentCount(documentCounts.getOrDefault(node.getFolder().getId(), 0L))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetCollaborativeFolderTreeRequest {
+    @NotNull
+    private Long teamSpaceId;
+
+    @NotNull
+    private Long folderId;
+}
@@ -0,0 +1,3 @@
+public interface GetTeamSpaceStats extends Command {
+    TeamSpaceStatsDTO handle(GetTeamSpaceStatsRequest input, RequestContext context);
+}
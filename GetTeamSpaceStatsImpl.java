@@ -0,0 +1,21 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetTeamSpaceStatsImpl implements GetTeamSpaceStats {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceStatsJpaRepository statsJpaRepository;
+    private final TeamSpaceMapper teamSpaceMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamSpaceStatsDTO handle(GetTeamSpaceStatsRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can see its statistics");
+
+        // A single primary key lookup, whatever the size of the team space
+        TeamSpaceStatsEntity stats = statsJpaRepository.findById(input.getTeamSpaceId())
+                .orElseThrow(() -> new IllegalStateException("Statistics of team space " + input.getTeamSpaceId()
+                        + " are not computed yet"));
+        return teamSpaceMapper.toStatsDTO(stats);
+    }
+}
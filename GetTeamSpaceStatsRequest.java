@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetTeamSpaceStatsRequest {
+    @NotNull
+    private Long teamSpaceId;
+}
@@ -0,0 +1,3 @@
+public interface GetUploadSession extends Command {
+    UploadSessionDTO handle(UploadSessionRequest input, RequestContext context);
+}
@@ -0,0 +1,12 @@
+@Service
+@RequiredArgsConstructor
+public class GetUploadSessionImpl implements GetUploadSession {
+    private final UploadSessionAccessChecker sessionAccessChecker;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionDTO handle(UploadSessionRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        return sessionAccessChecker.requireOwned(input.getSessionId(), requestingUserIgg).toDTO();
+    }
+}
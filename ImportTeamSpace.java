@@ -0,0 +1,3 @@
+public interface ImportTeamSpace extends Command {
+    TeamSpaceSummaryDTO handle(ImportTeamSpaceRequest input, RequestContext context);
+}
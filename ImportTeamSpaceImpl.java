@@ -0,0 +1,406 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportTeamSpaceImpl implements ImportTeamSpace {
+    private static final int BATCH_SIZE = 500;
+
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final TeamSpaceFolderRepository folderRepository;
+    private final TeamSpaceDocumentRepository documentRepository;
+    private final FolderClosureJpaRepository folderClosureJpaRepository;
+    private final UserRepository userRepository;
+    private final ContentBlobService contentBlobService;
+    private final TeamSpaceMapper teamSpaceMapper;
+    private final TeamSpaceOutbox outbox;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TeamSpaceExportSigner signer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${teamspace.import.max-size:1GB}")
+    private DataSize maxSize;
+
+    // The body is buffered to a temporary file first: a slow client holds no connection and no transaction.
+    // The file is then checked against its signature and imported in a single pass, in one transaction:
+    // a malformed or truncated file leaves nothing behind.
+    @Override
+    public TeamSpaceSummaryDTO handle(ImportTeamSpaceRequest input, RequestContext context) {
+        String userIgg = context.getUser().get().getIgg().toString();
+        userRepository.findByIgg(userIgg)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        Path file = null;
+        try {
+            file = buffer(input.getContent());
+            verifySignature(file);
+            Path export = file;
+            return transactionTemplate.execute(status -> importFile(export, input.getName(), userIgg));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the team space export", e);
+        } finally {
+            if (file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private Path buffer(InputStream content) throws IOException {
+        Path file = Files.createTempFile("team-space-import-", ".ndjson");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[64 * 1024];
+            long size = 0;
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize.toBytes()) {
+                    throw new IllegalArgumentException("Team space export is larger than " + maxSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    // Every line but the last one is signed, the last one carries the signature
+    private void verifySignature(Path file) throws IOException {
+        Mac mac = signer.newMac();
+        String previous = null;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (previous != null) {
+                    mac.update(previous.getBytes(StandardCharsets.UTF_8));
+                    mac.update((byte) '\n');
+                }
+                previous = line;
+            }
+        }
+        if (previous == null || !(parse(previous) instanceof TeamSpaceExportRecord.EndLine end)) {
+            throw new IllegalArgumentException("Truncated team space export: the end line is missing");
+        }
+        if (!signer.verify(mac, end.signature())) {
+            throw new IllegalArgumentException("Team space export signature does not match: only unmodified exports can be imported");
+        }
+    }
+
+    // Folder ids are remapped as the lines arrive, the export lists parents before their children
+    private TeamSpaceSummaryDTO importFile(Path file, String name, String userIgg) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = reader.readLine();
+            if (first == null || !(parse(first) instanceof TeamSpaceExportRecord.TeamSpaceLine header)) {
+                throw new IllegalArgumentException("A team space export starts with a teamSpace line");
+            }
+            if (header.formatVersion() != TeamSpaceExportRecord.FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported team space export format " + header.formatVersion());
+            }
+            ImportState state = new ImportState(createTeamSpace(header, name, userIgg), userIgg);
+
+            String text;
+            while ((text = reader.readLine()) != null) {
+                TeamSpaceExportRecord line = parse(text);
+                if (line instanceof TeamSpaceExportRecord.MemberLine member) {
+                    state.add(member);
+                } else if (line instanceof TeamSpaceExportRecord.FolderLine folder) {
+                    state.add(folder);
+                } else if (line instanceof TeamSpaceExportRecord.DocumentLine document) {
+                    state.add(document);
+                } else if (line instanceof TeamSpaceExportRecord.EndLine end) {
+                    state.finish(end);
+                    if (reader.readLine() != null) {
+                        throw new IllegalArgumentException("Unexpected line after the end of the team space export");
+                    }
+                    log.info("Imported team space {} as {}: {} members, {} folders, {} documents, {} documents without content",
+                            header.id(), state.teamSpace.getId(), state.memberCount, state.folderCount,
+                            state.documentCount, state.skippedDocuments);
+                    return teamSpaceMapper.toSummaryDTO(state.teamSpace, state.memberCount, state.folderCount);
+                } else {
+                    throw new IllegalArgumentException("A team space export holds a single teamSpace line");
+                }
+            }
+            throw new IllegalArgumentException("Truncated team space export: the end line is missing");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the team space export", e);
+        }
+    }
+
+    private TeamSpaceExportRecord parse(String line) {
+        try {
+            return objectMapper.readerFor(TeamSpaceExportRecord.class).readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed team space export: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete team space export {}", file, e);
+        }
+    }
+
+    private TeamSpace createTeamSpace(TeamSpaceExportRecord.TeamSpaceLine header, String name, String userIgg) {
+        String teamSpaceName = name != null && !name.isBlank() ? name : header.name();
+        if (teamSpaceRepository.existsActiveByName(teamSpaceName)) {
+            throw new IllegalArgumentException("Team space with name " + teamSpaceName + " already exists");
+        }
+        TeamSpace teamSpace = teamSpaceRepository.save(TeamSpace.builder()
+                .name(teamSpaceName)
+                .description(header.description())
+                .status(TeamSpaceStatus.ACTIVE)
+                .members(new HashSet<>())
+                .folders(new HashSet<>())
+                .build());
+        // Before any member or folder: the stats row starts from zero and follows the batches below
+        outbox.append(new TeamSpaceCreatedEvent(teamSpace.getId(), teamSpace.getName(), teamSpace.getDescription(),
+                userIgg, LocalDateTime.now()));
+        return teamSpace;
+    }
+
+    // State of one import. Lines are buffered by section and written by batches through the repositories,
+    // with their events, then the persistence context is cleared.
+    private class ImportState {
+        private final TeamSpace teamSpace;
+        private final String userIgg;
+        private final Set<String> memberIggs = new HashSet<>();
+        private final Map<Long, Long> folderIds = new HashMap<>();
+        private final List<TeamSpaceExportRecord.MemberLine> pendingMembers = new ArrayList<>();
+        private final List<TeamSpaceExportRecord.FolderLine> pendingFolders = new ArrayList<>();
+        private final List<TeamSpaceExportRecord.DocumentLine> pendingDocuments = new ArrayList<>();
+        private int section;
+        private long memberLines;
+        private long folderLines;
+        private long documentLines;
+        private long memberCount;
+        private long folderCount;
+        private long documentCount;
+        private long skippedDocuments;
+        private boolean ownerImported;
+        private TeamSpaceMember importingMember;
+
+        private ImportState(TeamSpace teamSpace, String userIgg) {
+            this.teamSpace = teamSpace;
+            this.userIgg = userIgg;
+        }
+
+        private void add(TeamSpaceExportRecord.MemberLine line) {
+            enter(1);
+            memberLines++;
+            pendingMembers.add(line);
+            if (pendingMembers.size() == BATCH_SIZE) {
+                flushMembers();
+            }
+        }
+
+        private void add(TeamSpaceExportRecord.FolderLine line) {
+            enter(2);
+            folderLines++;
+            pendingFolders.add(line);
+            if (pendingFolders.size() == BATCH_SIZE) {
+                flushFolders();
+            }
+        }
+
+        private void add(TeamSpaceExportRecord.DocumentLine line) {
+            enter(3);
+            documentLines++;
+            pendingDocuments.add(line);
+            if (pendingDocuments.size() == BATCH_SIZE) {
+                flushDocuments();
+            }
+        }
+
+        private void finish(TeamSpaceExportRecord.EndLine end) {
+            enter(4);
+            if (end.members() != memberLines || end.folders() != folderLines || end.documents() != documentLines) {
+                throw new IllegalArgumentException("Truncated team space export: the counts of the end line do not match");
+            }
+        }
+
+        // Sections come in order and are closed when the next one starts
+        private void enter(int next) {
+            if (next < section) {
+                throw new IllegalArgumentException("Team space export lines are out of order");
+            }
+            while (section < next) {
+                switch (section) {
+                    case 1 -> closeMembers();
+                    case 2 -> closeFolders();
+                    case 3 -> flushDocuments();
+                    default -> {
+                    }
+                }
+                section++;
+            }
+        }
+
+        private void closeMembers() {
+            flushMembers();
+            // Members unknown to this environment are skipped: the importing user stands in for a missing owner
+            if (importingMember == null) {
+                TeamSpaceRole role = ownerImported ? TeamSpaceRole.ADMIN : TeamSpaceRole.OWNER;
+                memberRepository.saveAll(teamSpace.getId(), List.of(TeamSpaceMember.builder()
+                        .teamSpaceId(teamSpace.getId())
+                        .userIgg(userIgg)
+                        .role(role)
+                        .build()));
+                memberCount++;
+                outbox.append(new TeamSpaceMemberAddedEvent(teamSpace.getId(), userIgg, role, userIgg, LocalDateTime.now()));
+            } else if (!ownerImported) {
+                TeamSpaceRole previousRole = importingMember.getRole();
+                memberRepository.updateRole(importingMember, TeamSpaceRole.OWNER);
+                outbox.append(new TeamSpaceMemberRoleChangedEvent(teamSpace.getId(), userIgg, previousRole,
+                        TeamSpaceRole.OWNER, userIgg, LocalDateTime.now()));
+            }
+            entityManager.clear();
+        }
+
+        private void closeFolders() {
+            flushFolders();
+            // The folders were inserted with their parent links only
+            folderClosureJpaRepository.insertTeamSpaceTree(teamSpace.getId());
+        }
+
+        private void flushMembers() {
+            if (pendingMembers.isEmpty()) {
+                return;
+            }
+            Set<String> knownUsers = userRepository.findExistingIggs(pendingMembers.stream()
+                    .map(TeamSpaceExportRecord.MemberLine::userIgg)
+                    .collect(Collectors.toSet()));
+            List<TeamSpaceMember> members = new ArrayList<>(pendingMembers.size());
+            for (TeamSpaceExportRecord.MemberLine line : pendingMembers) {
+                if (knownUsers.contains(line.userIgg()) && memberIggs.add(line.userIgg())) {
+                    members.add(TeamSpaceMember.builder()
+                            .teamSpaceId(teamSpace.getId())
+                            .userIgg(line.userIgg())
+                            .role(line.role())
+                            .build());
+                } else {
+                    log.warn("Skipping member {} of the team space export: unknown user or duplicate line", line.userIgg());
+                }
+            }
+            pendingMembers.clear();
+
+            List<TeamSpaceMember> saved = memberRepository.saveAll(teamSpace.getId(), members);
+            LocalDateTime now = LocalDateTime.now();
+            for (TeamSpaceMember member : saved) {
+                ownerImported |= member.getRole() == TeamSpaceRole.OWNER;
+                if (member.getUserIgg().equals(userIgg)) {
+                    importingMember = member;
+                }
+            }
+            memberCount += saved.size();
+            outbox.appendAll(saved.stream()
+                    .map(member -> new TeamSpaceMemberAddedEvent(teamSpace.getId(), member.getUserIgg(), member.getRole(),
+                            userIgg, now))
+                    .collect(Collectors.toList()));
+            entityManager.clear();
+        }
+
+        private void flushFolders() {
+            if (pendingFolders.isEmpty()) {
+                return;
+            }
+            // Parents of this batch are either earlier in the batch or already inserted
+            Map<Long, Folder> batch = new HashMap<>();
+            List<Folder> folders = new ArrayList<>(pendingFolders.size());
+            for (TeamSpaceExportRecord.FolderLine line : pendingFolders) {
+                Folder parent = null;
+                if (line.parentId() != null) {
+                    parent = batch.get(line.parentId());
+                    if (parent == null) {
+                        Long parentId = folderIds.get(line.parentId());
+                        if (parentId == null) {
+                            throw new IllegalArgumentException("Folder " + line.id() + " comes before its parent " + line.parentId());
+                        }
+                        parent = Folder.builder().id(parentId).build();
+                    }
+                }
+                Folder folder = Folder.builder()
+                        .name(line.name())
+                        .description(line.description())
+                        .parent(parent)
+                        .teamSpace(TeamSpace.builder().id(teamSpace.getId()).build())
+                        .collaborative(line.collaborative())
+                        .build();
+                if (batch.put(line.id(), folder) != null || folderIds.containsKey(line.id())) {
+                    throw new IllegalArgumentException("Folder " + line.id() + " appears twice in the team space export");
+                }
+                folders.add(folder);
+            }
+
+            List<Long> ids = folderRepository.insertAll(teamSpace.getId(), folders);
+            LocalDateTime now = LocalDateTime.now();
+            List<CollaborativeFolderCreatedEvent> events = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                TeamSpaceExportRecord.FolderLine line = pendingFolders.get(i);
+                folderIds.put(line.id(), ids.get(i));
+                events.add(new CollaborativeFolderCreatedEvent(teamSpace.getId(), ids.get(i),
+                        line.parentId() != null ? folderIds.get(line.parentId()) : null,
+                        line.name(), line.description(), userIgg, now));
+            }
+            pendingFolders.clear();
+            folderCount += ids.size();
+            outbox.appendAll(events);
+            entityManager.clear();
+        }
+
+        private void flushDocuments() {
+            if (pendingDocuments.isEmpty()) {
+                return;
+            }
+            // Only blobs known to this environment: the location is resolved here, never read from the file
+            Set<String> existingBlobs = contentBlobService.findExisting(pendingDocuments.stream()
+                    .map(TeamSpaceExportRecord.DocumentLine::contentHash)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()));
+            Map<String, Long> blobReferences = new HashMap<>();
+            List<Document> documents = new ArrayList<>(pendingDocuments.size());
+            for (TeamSpaceExportRecord.DocumentLine line : pendingDocuments) {
+                Long folderId = folderIds.get(line.folderId());
+                if (folderId == null) {
+                    throw new IllegalArgumentException("Document " + line.id() + " belongs to unknown folder " + line.folderId());
+                }
+                if (line.contentHash() == null || !existingBlobs.contains(line.contentHash())) {
+                    log.warn("Skipping document {} of the team space export: its content is not in the blob store", line.id());
+                    skippedDocuments++;
+                    continue;
+                }
+                documents.add(Document.builder()
+                        .name(line.name())
+                        .description(line.description())
+                        .version(line.version())
+                        .fileType(line.fileType())
+                        .fileSize(line.fileSize())
+                        .filePath(contentBlobService.location(line.contentHash()))
+                        .contentHash(line.contentHash())
+                        .status(line.status())
+                        .folder(Folder.builder().id(folderId).build())
+                        .tags(line.tags() != null ? new HashSet<>(line.tags()) : new HashSet<>())
+                        .metadata(line.metadata() != null ? new HashMap<>(line.metadata()) : new HashMap<>())
+                        .build());
+                blobReferences.merge(line.contentHash(), 1L, Long::sum);
+            }
+            pendingDocuments.clear();
+
+            // One reference per document, added once per blob of the batch. Fails if the collector removed the blob
+            // since the check, the row lock then keeps it until commit
+            blobReferences.forEach(contentBlobService::retain);
+
+            // Batched inserts, the persistence context is cleared by the repository
+            List<Document> saved = documentRepository.saveAll(documents);
+            documentCount += saved.size();
+            LocalDateTime now = LocalDateTime.now();
+            outbox.appendAll(saved.stream()
+                    .map(document -> new DocumentSharedEvent(teamSpace.getId(), document.getId(), null,
+                            document.getFolder().getId(), document.getName(), document.getDescription(), userIgg, now))
+                    .collect(Collectors.toList()));
+            entityManager.clear();
+        }
+    }
+}
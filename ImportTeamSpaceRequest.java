@@ -0,0 +1,11 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportTeamSpaceRequest {
+    // Name of the new team space, the exported name when absent
+    private String name;
+
+    // Raw request body, an export of TeamSpaceExporter read line by line
+    private InputStream content;
+}
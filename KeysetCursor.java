@@ -0,0 +1,53 @@
+// Opaque page cursor carrying the sort key and id of the last row of the previous page.
+// A null sort key is encoded as an empty key, any other one behind a VALUE_PREFIX, so "null" stays a valid value.
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final char SEPARATOR = '|';
+    private static final char VALUE_PREFIX = '=';
+
+    private final String sortKey; // null when the last row had no sort key, such rows are listed last
+    private final Long id;
+
+    public static KeysetCursor of(Object sortKey, Long id) {
+        return new KeysetCursor(sortKey == null ? null : sortKey.toString(), id);
+    }
+
+    public static Optional<KeysetCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String key = raw.substring(0, separator);
+            if (!key.isEmpty() && key.charAt(0) != VALUE_PREFIX) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return Optional.of(new KeysetCursor(key.isEmpty() ? null : key.substring(1),
+                    Long.valueOf(raw.substring(separator + 1))));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = (sortKey == null ? "" : VALUE_PREFIX + sortKey) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean hasNullSortKey() {
+        return sortKey == null;
+    }
+
+    public LocalDateTime sortKeyAsDateTime() {
+        if (sortKey == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageDTO<T> {
+    private List<T> items;
+    private String nextCursor; // null when there is no further page
+}
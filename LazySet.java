@@ -0,0 +1,51 @@
+// Set view whose content is only materialized on first access, so that mapping an aggregate
+// does not pull lazy JPA collections that the caller never reads.
+public class LazySet<E> extends AbstractSet<E> {
+    private final Supplier<Set<E>> loader;
+    private Set<E> delegate;
+
+    public LazySet(Supplier<Set<E>> loader) {
+        this.loader = loader;
+    }
+
+    public boolean isLoaded() {
+        return delegate != null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate().iterator();
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate().contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return delegate().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate().remove(o);
+    }
+
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    private Set<E> delegate() {
+        if (delegate == null) {
+            delegate = loader.get();
+        }
+        return delegate;
+    }
+}
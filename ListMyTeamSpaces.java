@@ -0,0 +1,3 @@
+public interface ListMyTeamSpaces extends Command {
+    KeysetPageDTO<TeamSpaceSummaryDTO> handle(ListMyTeamSpacesRequest input, RequestContext context);
+}
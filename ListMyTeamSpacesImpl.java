@@ -0,0 +1,35 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListMyTeamSpacesImpl implements ListMyTeamSpaces {
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceMapper teamSpaceMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<TeamSpaceSummaryDTO> handle(ListMyTeamSpacesRequest input, RequestContext context) {
+        String userIgg = context.getUser().get().getIgg().toString();
+        log.info("Listing {} team spaces of user {}", input.getStatus(), userIgg);
+
+        KeysetCursor after = KeysetCursor.decode(input.getCursor()).orElse(null);
+
+        // Fetch one extra row to know whether another page exists
+        List<TeamSpaceListingView> teamSpaces = teamSpaceRepository.findListingByMember(
+                userIgg, input.getStatus(), input.getDirection(), after, input.getSize() + 1);
+        boolean hasMore = teamSpaces.size() > input.getSize();
+        List<TeamSpaceListingView> page = hasMore ? teamSpaces.subList(0, input.getSize()) : teamSpaces;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TeamSpaceListingView last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getName(), last.getId()).encode();
+        }
+
+        return KeysetPageDTO.<TeamSpaceSummaryDTO>builder()
+                .items(page.stream()
+                        .map(teamSpaceMapper::toSummaryDTO)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListMyTeamSpacesRequest {
+    @NotNull
+    @Builder.Default
+    private TeamSpaceStatus status = TeamSpaceStatus.ACTIVE;
+
+    // Sorted by name
+    @NotNull
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    @Builder.Default
+    private Integer size = 20;
+}
@@ -0,0 +1,3 @@
+public interface ListTeamSpaceFolders extends Command {
+    KeysetPageDTO<FolderDTO> handle(ListTeamSpaceFoldersRequest input, RequestContext context);
+}
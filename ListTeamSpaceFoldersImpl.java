@@ -0,0 +1,37 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListTeamSpaceFoldersImpl implements ListTeamSpaceFolders {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceFolderRepository folderRepository;
+    private final FolderMapper folderMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<FolderDTO> handle(ListTeamSpaceFoldersRequest input, RequestContext context) {
+        log.info("Listing folders of team space {}", input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can list folders");
+
+        KeysetCursor after = KeysetCursor.decode(input.getCursor()).orElse(null);
+
+        // Fetch one extra row to know whether another page exists
+        List<Folder> folders = folderRepository.findPage(input.getTeamSpaceId(), after, input.getSize() + 1);
+        boolean hasMore = folders.size() > input.getSize();
+        List<Folder> page = hasMore ? folders.subList(0, input.getSize()) : folders;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Folder last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return KeysetPageDTO.<FolderDTO>builder()
+                .items(page.stream()
+                        .map(folderMapper::toDTO)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,3 @@
+public interface ListTeamSpaceMembers extends Command {
+    KeysetPageDTO<TeamSpaceMemberDTO> handle(ListTeamSpaceMembersRequest input, RequestContext context);
+}
@@ -0,0 +1,37 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListTeamSpaceMembersImpl implements ListTeamSpaceMembers {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final TeamSpaceMemberMapper memberMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<TeamSpaceMemberDTO> handle(ListTeamSpaceMembersRequest input, RequestContext context) {
+        log.info("Listing members of team space {}", input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can list members");
+
+        KeysetCursor after = KeysetCursor.decode(input.getCursor()).orElse(null);
+
+        // Fetch one extra row to know whether another page exists
+        List<TeamSpaceMember> members = memberRepository.findPage(input.getTeamSpaceId(), after, input.getSize() + 1);
+        boolean hasMore = members.size() > input.getSize();
+        List<TeamSpaceMember> page = hasMore ? members.subList(0, input.getSize()) : members;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TeamSpaceMember last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getJoinedAt(), last.getId()).encode();
+        }
+
+        return KeysetPageDTO.<TeamSpaceMemberDTO>builder()
+                .items(page.stream()
+                        .map(memberMapper::toDTO)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListTeamSpaceMembersRequest {
+    @NotNull
+    private Long teamSpaceId;
+
+    private String cursor;
+
+    @Min(1)
+    @Max(200)
+    @Builder.Default
+    private Integer size = 50;
+}
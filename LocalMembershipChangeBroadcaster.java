@@ -0,0 +1,24 @@
+// In-process stand-in for the cluster broadcast: every subscriber of this JVM is notified.
+// A pub/sub backed implementation only has to replace this bean to reach the other nodes.
+@Component
+@Slf4j
+public class LocalMembershipChangeBroadcaster implements MembershipChangeBroadcaster {
+    private final List<Consumer<TeamSpaceMembershipChangedEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void broadcast(TeamSpaceMembershipChangedEvent event) {
+        log.debug("Broadcasting membership change {}", event);
+        for (Consumer<TeamSpaceMembershipChangedEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Membership change listener failed for {}", event, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TeamSpaceMembershipChangedEvent> listener) {
+        listeners.add(listener);
+    }
+}
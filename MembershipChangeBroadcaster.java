@@ -0,0 +1,4 @@
+public interface MembershipChangeBroadcaster {
+    void broadcast(TeamSpaceMembershipChangedEvent event);
+    void subscribe(Consumer<TeamSpaceMembershipChangedEvent> listener);
+}
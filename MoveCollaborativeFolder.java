@@ -0,0 +1,3 @@
+public interface MoveCollaborativeFolder extends Command {
+    FolderDTO handle(MoveCollaborativeFolderRequest input, RequestContext context);
+}
@@ -0,0 +1,57 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MoveCollaborativeFolderImpl implements MoveCollaborativeFolder {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final FolderRepository folderRepository;
+    private final FolderHierarchyRepository folderHierarchyRepository;
+    private final FolderMapper folderMapper;
+
+    @Override
+    @Transactional
+    public FolderDTO handle(MoveCollaborativeFolderRequest input, RequestContext context) {
+        log.info("Moving collaborative folder {} under {} in team space {}",
+                input.getFolderId(), input.getNewParentFolderId(), input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Verify if user has permission to organize folders
+        permissionChecker.requireMember(input.getTeamSpaceId(), requestingUserIgg, "Only team space members can move folders");
+        // Moves of a team space run one at a time: two concurrent moves could each pass the ancestry check below
+        // and together close a cycle, even through folders that neither of them touches.
+        // Locked before requireActive, whose shared lock would otherwise have to be upgraded
+        teamSpaceRepository.findByIdForUpdate(input.getTeamSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        permissionChecker.requireActive(input.getTeamSpaceId());
+
+        Folder folder = folderRepository.findById(input.getFolderId())
+                .orElseThrow(() -> new IllegalArgumentException("Folder not found"));
+        if (folder.getTeamSpace() == null || !input.getTeamSpaceId().equals(folder.getTeamSpace().getId())) {
+            throw new IllegalArgumentException("Folder must belong to the specified team space");
+        }
+
+        Folder newParent = null;
+        if (input.getNewParentFolderId() != null) {
+            newParent = folderRepository.findById(input.getNewParentFolderId())
+                    .orElseThrow(() -> new IllegalArgumentException("Parent folder not found"));
+
+            // Verify parent folder belongs to the same team space
+            if (newParent.getTeamSpace() == null || !input.getTeamSpaceId().equals(newParent.getTeamSpace().getId())) {
+                throw new IllegalArgumentException("Parent folder must belong to the same team space");
+            }
+
+            // Verify the folder is not moved into its own subtree
+            if (folderHierarchyRepository.isAncestorOf(folder.getId(), newParent.getId())) {
+                throw new IllegalArgumentException("A folder cannot be moved into itself or one of its sub-folders");
+            }
+        }
+
+        folder.setParent(newParent);
+        Folder savedFolder = folderRepository.save(folder);
+        folderHierarchyRepository.moveSubtree(folder.getId(), input.getNewParentFolderId());
+        log.info("Collaborative folder {} moved successfully", savedFolder.getId());
+
+        return folderMapper.toDTO(savedFolder);
+    }
+}
@@ -0,0 +1,15 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveCollaborativeFolderRequest {
+    @NotNull
+    private Long teamSpaceId;
+
+    @NotNull
+    private Long folderId;
+
+    // Null moves the folder to the root of the team space
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long newParentFolderId;
+}
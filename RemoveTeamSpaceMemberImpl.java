@@ -2,7 +2,10 @@
 @RequiredArgsConstructor
 @Slf4j
 public class RemoveTeamSpaceMemberImpl implements RemoveTeamSpaceMember {
-    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamSpaceOutbox outbox;
 
     @Override
     @Transactional
@@ -11,26 +14,24 @@ public class RemoveTeamSpaceMemberImpl implements RemoveTeamSpaceMember {
 
         String requestingUserIgg = context.getUser().get().getIgg().toString();
 
-        // Get the team space
-        TeamSpace teamSpace = teamSpaceRepository.findById(teamSpaceId)
-                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
-
         // Verify if requesting user has permission to remove members
-        if (!teamSpace.isUserAdmin(requestingUserIgg)) {
-            throw new AccessDeniedException("Only admins can remove members");
-        }
+        permissionChecker.requireAdmin(teamSpaceId, requestingUserIgg, "Only admins can remove members");
+
+        // Get the member row only, not the whole team space
+        TeamSpaceMember member = memberRepository.findByTeamSpaceIdAndUserIgg(teamSpaceId, memberIgg)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found in team space"));
 
         // Cannot remove the owner
-        if (teamSpace.isUserOwner(memberIgg)) {
+        if (member.getRole() == TeamSpaceRole.OWNER) {
             throw new IllegalArgumentException("Cannot remove the owner from the team space");
         }
 
-        // Remove member
-        teamSpace.removeMember(memberIgg);
-        
-        // Save changes
-        teamSpaceRepository.save(teamSpace);
+        // Single-row delete, guarded by the member version
+        memberRepository.delete(member);
+        eventPublisher.publishEvent(new TeamSpaceMembershipChangedEvent(teamSpaceId, memberIgg));
+        outbox.append(new TeamSpaceMemberRemovedEvent(teamSpaceId, memberIgg, member.getRole(), requestingUserIgg,
+                LocalDateTime.now()));
         
         log.info("Member successfully removed from team space");
     }
-}
\ No newline at end of file
+}
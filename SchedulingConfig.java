@@ -0,0 +1,4 @@
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,10 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private SearchItemType type;
+    private Long id;
+    private Long teamSpaceId;
+    private String title;
+}
@@ -0,0 +1,37 @@
+// Fills the search index from the existing team spaces, collaborative folders and their documents
+// the first time the application starts with an empty index
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexBackfill {
+    private static final int BATCH_SIZE = 1000;
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!searchIndexRepository.isEmpty()) {
+            return;
+        }
+        log.info("Search index is empty, indexing existing content");
+        for (SearchItemType type : SearchItemType.values()) {
+            long afterId = 0;
+            long indexed = 0;
+            List<SearchIndexEntry> batch;
+            do {
+                long from = afterId;
+                batch = transactionTemplate.execute(status -> {
+                    List<SearchIndexEntry> entries = searchIndexRepository.findSourceBatch(type, from, BATCH_SIZE);
+                    searchIndexRepository.index(entries);
+                    return entries;
+                });
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getItemId();
+                    indexed += batch.size();
+                }
+            } while (batch.size() == BATCH_SIZE);
+            log.info("Indexed {} items of type {}", indexed, type);
+        }
+    }
+}
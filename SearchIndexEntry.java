@@ -0,0 +1,10 @@
+@Getter
+@Builder
+public class SearchIndexEntry {
+    private final SearchItemType type;
+    private final Long itemId;
+    private final Long teamSpaceId;
+    private final String title;
+    // Indexed with the title, not returned
+    private final String description;
+}
@@ -0,0 +1,6 @@
+public interface SearchIndexRepository {
+    void index(List<SearchIndexEntry> entries);
+    boolean isEmpty();
+    List<SearchIndexEntry> findSourceBatch(SearchItemType type, long afterItemId, int limit);
+    List<SearchHitDTO> search(String userIgg, List<String> prefixes, Set<SearchItemType> types, int limit);
+}
@@ -0,0 +1,127 @@
+// Inverted index kept in two tables: search_items holds what is returned, search_terms one row per (term, item)
+// denormalized with the team space so that a prefix lookup is a range scan of the caller's team spaces only
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRepositoryImpl implements SearchIndexRepository {
+    private static final int MAX_TERMS_PER_ITEM = 100;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void index(List<SearchIndexEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO search_items (item_type, item_id, team_space_id, title, updated_at)"
+                        + " VALUES (:type, :itemId, :teamSpaceId, :title, CURRENT_TIMESTAMP)"
+                        + " ON CONFLICT (item_type, item_id) DO UPDATE"
+                        + " SET team_space_id = EXCLUDED.team_space_id, title = EXCLUDED.title, updated_at = EXCLUDED.updated_at",
+                entries.stream()
+                        .map(entry -> new MapSqlParameterSource()
+                                .addValue("type", entry.getType().name())
+                                .addValue("itemId", entry.getItemId())
+                                .addValue("teamSpaceId", entry.getTeamSpaceId())
+                                .addValue("title", entry.getTitle()))
+                        .toArray(SqlParameterSource[]::new));
+
+        // Items of one batch are all of the same kind in practice, resolve their ids per type
+        Map<SearchItemType, List<SearchIndexEntry>> byType = entries.stream()
+                .collect(Collectors.groupingBy(SearchIndexEntry::getType));
+        List<SqlParameterSource> terms = new ArrayList<>();
+        List<Long> searchItemIds = new ArrayList<>();
+        byType.forEach((type, typedEntries) -> {
+            Map<Long, Long> ids = new HashMap<>();
+            jdbcTemplate.query("SELECT id, item_id FROM search_items WHERE item_type = :type AND item_id IN (:itemIds)",
+                    new MapSqlParameterSource()
+                            .addValue("type", type.name())
+                            .addValue("itemIds", typedEntries.stream().map(SearchIndexEntry::getItemId).collect(Collectors.toList())),
+                    (RowCallbackHandler) rs -> ids.put(rs.getLong("item_id"), rs.getLong("id")));
+            for (SearchIndexEntry entry : typedEntries) {
+                Long searchItemId = ids.get(entry.getItemId());
+                searchItemIds.add(searchItemId);
+                Stream.concat(SearchTokenizer.tokenize(entry.getTitle()).stream(), SearchTokenizer.tokenize(entry.getDescription()).stream())
+                        .distinct()
+                        .limit(MAX_TERMS_PER_ITEM)
+                        .forEach(term -> terms.add(new MapSqlParameterSource()
+                                .addValue("term", term)
+                                .addValue("searchItemId", searchItemId)
+                                .addValue("teamSpaceId", entry.getTeamSpaceId())));
+            }
+        });
+
+        jdbcTemplate.update("DELETE FROM search_terms WHERE search_item_id IN (:ids)", Map.of("ids", searchItemIds));
+        jdbcTemplate.batchUpdate("INSERT INTO search_terms (term, search_item_id, team_space_id) VALUES (:term, :searchItemId, :teamSpaceId)",
+                terms.toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM search_items)", Map.of(), Boolean.class));
+    }
+
+    @Override
+    public List<SearchIndexEntry> findSourceBatch(SearchItemType type, long afterItemId, int limit) {
+        String sql;
+        switch (type) {
+            case TEAM_SPACE:
+                sql = "SELECT t.id, t.id AS team_space_id, t.name, t.description FROM team_spaces t"
+                        + " WHERE t.id > :afterId ORDER BY t.id LIMIT :limit";
+                break;
+            case FOLDER:
+                sql = "SELECT f.id, f.team_space_id, f.name, f.description FROM folders f"
+                        + " WHERE f.team_space_id IS NOT NULL AND f.id > :afterId ORDER BY f.id LIMIT :limit";
+                break;
+            default:
+                // Every document of the collaborative folders, as SearchIndexer keeps them from DocumentSharedEvent
+                sql = "SELECT d.id, f.team_space_id, d.name, d.description FROM documents d JOIN folders f ON d.folder_id = f.id"
+                        + " WHERE f.team_space_id IS NOT NULL AND d.id > :afterId ORDER BY d.id LIMIT :limit";
+        }
+        return jdbcTemplate.query(sql, new MapSqlParameterSource()
+                        .addValue("afterId", afterItemId)
+                        .addValue("limit", limit),
+                (rs, rowNum) -> SearchIndexEntry.builder()
+                        .type(type)
+                        .itemId(rs.getLong("id"))
+                        .teamSpaceId(rs.getLong("team_space_id"))
+                        .title(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .build());
+    }
+
+    @Override
+    public List<SearchHitDTO> search(String userIgg, List<String> prefixes, Set<SearchItemType> types, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIgg", userIgg)
+                .addValue("types", types.stream().map(Enum::name).collect(Collectors.toList()))
+                .addValue("limit", limit);
+        // The longest prefix is the most selective one: it drives the lookup, the others are probed per candidate
+        List<String> ordered = prefixes.stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .collect(Collectors.toList());
+        StringBuilder sql = new StringBuilder("SELECT DISTINCT i.item_type, i.item_id, i.team_space_id, i.title"
+                + " FROM search_terms t0 JOIN search_items i ON i.id = t0.search_item_id"
+                + " WHERE t0.team_space_id IN (SELECT m.team_space_id FROM team_space_members m"
+                + " JOIN team_spaces s ON s.id = m.team_space_id WHERE m.user_igg = :userIgg AND s.status = 'ACTIVE')"
+                + " AND t0.term LIKE :p0 AND i.item_type IN (:types)");
+        params.addValue("p0", likePrefix(ordered.get(0)));
+        for (int i = 1; i < ordered.size(); i++) {
+            sql.append(" AND EXISTS (SELECT 1 FROM search_terms t").append(i)
+                    .append(" WHERE t").append(i).append(".search_item_id = i.id AND t").append(i)
+                    .append(".team_space_id = t0.team_space_id AND t").append(i).append(".term LIKE :p").append(i).append(")");
+            params.addValue("p" + i, likePrefix(ordered.get(i)));
+        }
+        sql.append(" ORDER BY i.title, i.item_type, i.item_id LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> SearchHitDTO.builder()
+                .type(SearchItemType.valueOf(rs.getString("item_type")))
+                .id(rs.getLong("item_id"))
+                .teamSpaceId(rs.getLong("team_space_id"))
+                .title(rs.getString("title"))
+                .build());
+    }
+
+    // Tokens are alphanumeric, but keep LIKE wildcards out anyway
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
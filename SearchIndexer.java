@@ -0,0 +1,50 @@
+// Keeps the search index in step with the team spaces, folders and documents, from the outbox events.
+// Every document that enters a collaborative folder (share, bulk share, import, upload) records a DocumentSharedEvent,
+// so the index covers the same documents as the backfill. Indexing is an upsert on (item_type, item_id),
+// replaying an event is harmless.
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer implements TeamSpaceEventSubscriber {
+    private final SearchIndexRepository searchIndexRepository;
+
+    @Override
+    public String getName() {
+        return "search-index";
+    }
+
+    @Override
+    public void onEvents(List<TeamSpaceDomainEvent> events) {
+        List<SearchIndexEntry> entries = new ArrayList<>();
+        for (TeamSpaceDomainEvent event : events) {
+            if (event instanceof TeamSpaceCreatedEvent created) {
+                entries.add(SearchIndexEntry.builder()
+                        .type(SearchItemType.TEAM_SPACE)
+                        .itemId(created.getTeamSpaceId())
+                        .teamSpaceId(created.getTeamSpaceId())
+                        .title(created.getName())
+                        .description(created.getDescription())
+                        .build());
+            } else if (event instanceof CollaborativeFolderCreatedEvent folder) {
+                entries.add(SearchIndexEntry.builder()
+                        .type(SearchItemType.FOLDER)
+                        .itemId(folder.getFolderId())
+                        .teamSpaceId(folder.getTeamSpaceId())
+                        .title(folder.getName())
+                        .description(folder.getDescription())
+                        .build());
+            } else if (event instanceof DocumentSharedEvent shared) {
+                entries.add(SearchIndexEntry.builder()
+                        .type(SearchItemType.DOCUMENT)
+                        .itemId(shared.getDocumentId())
+                        .teamSpaceId(shared.getTeamSpaceId())
+                        .title(shared.getName())
+                        .description(shared.getDescription())
+                        .build());
+            }
+        }
+        // One batched upsert for the whole outbox batch
+        if (!entries.isEmpty()) {
+            searchIndexRepository.index(entries);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+public enum SearchItemType {
+    TEAM_SPACE,
+    FOLDER,
+    DOCUMENT
+}
@@ -0,0 +1,3 @@
+public interface SearchTeamSpaceContent extends Command {
+    List<SearchHitDTO> handle(SearchTeamSpaceContentRequest input, RequestContext context);
+}
@@ -0,0 +1,29 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchTeamSpaceContentImpl implements SearchTeamSpaceContent {
+    private static final int MAX_QUERY_TERMS = 5;
+
+    private final SearchIndexRepository searchIndexRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHitDTO> handle(SearchTeamSpaceContentRequest input, RequestContext context) {
+        String userIgg = context.getUser().get().getIgg().toString();
+
+        List<String> prefixes = SearchTokenizer.tokenize(input.getQ()).stream()
+                .limit(MAX_QUERY_TERMS)
+                .collect(Collectors.toList());
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+        Set<SearchItemType> types = input.getTypes() == null || input.getTypes().isEmpty()
+                ? EnumSet.allOf(SearchItemType.class)
+                : input.getTypes();
+
+        // Memberships are joined in the query: only active team spaces of the caller are searched
+        List<SearchHitDTO> hits = searchIndexRepository.search(userIgg, prefixes, types, input.getLimit());
+        log.debug("Search {} returned {} hits for user {}", prefixes, hits.size(), userIgg);
+        return hits;
+    }
+}
@@ -0,0 +1,18 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchTeamSpaceContentRequest {
+    // Every word must match the beginning of a word of the name or description: "risk q3" finds "Q3 risk review"
+    @NotBlank
+    @Size(max = 200)
+    private String q;
+
+    // All types when empty
+    private Set<SearchItemType> types;
+
+    @Min(1)
+    @Max(50)
+    @Builder.Default
+    private Integer limit = 20;
+}
@@ -0,0 +1,22 @@
+// Lower case, accent free, alphanumeric tokens: "Rapport Q3 - Risques" gives [rapport, q3, risques]
+public final class SearchTokenizer {
+    public static final int MAX_TERM_LENGTH = 64;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.splitAsStream(normalized)
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
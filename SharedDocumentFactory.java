@@ -0,0 +1,34 @@
+// Builds the copy of a document that lives in a collaborative folder, shared by the single and bulk share commands.
+// The copy points at the same blob, callers add the blob reference once the copy is saved.
+@Component
+public class SharedDocumentFactory {
+
+    public Document createSharedCopy(Document document, Folder targetFolder) {
+        return Document.builder()
+                .name(document.getName())
+                .description(document.getDescription())
+                .version("1.0") // Start with version 1.0 in the new space
+                .fileType(document.getFileType())
+                .fileSize(document.getFileSize())
+                .filePath(document.getFilePath())
+                .contentHash(document.getContentHash())
+                .status(DocumentStatus.SHARED)
+                .folder(targetFolder)
+                .parentDocument(document)
+                .tags(new HashSet<>(document.getTags()))
+                .metadata(new HashMap<>(document.getMetadata()))
+                .build();
+    }
+
+    public DocumentSharedEvent sharedEvent(Document sharedDocument, Long teamSpaceId, String sharedBy) {
+        return new DocumentSharedEvent(
+                teamSpaceId,
+                sharedDocument.getId(),
+                sharedDocument.getParentDocument() != null ? sharedDocument.getParentDocument().getId() : null,
+                sharedDocument.getFolder() != null ? sharedDocument.getFolder().getId() : null,
+                sharedDocument.getName(),
+                sharedDocument.getDescription(),
+                sharedBy,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,7 @@
+@Getter
+@AllArgsConstructor
+public class StagedUpload {
+    private final Path path;
+    private final String sha256;
+    private final long size;
+}
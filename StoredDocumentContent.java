@@ -0,0 +1,10 @@
+@Getter
+@Builder
+public class StoredDocumentContent {
+    // Blob store location, recorded as the file path of the document
+    private final String location;
+    private final String fileName;
+    private final String contentType;
+    private final long size;
+    private final String sha256;
+}
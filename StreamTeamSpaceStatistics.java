@@ -0,0 +1,3 @@
+public interface StreamTeamSpaceStatistics extends Command {
+    SseEmitter handle(RequestContext context);
+}
@@ -0,0 +1,13 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamTeamSpaceStatisticsImpl implements StreamTeamSpaceStatistics {
+    private final TeamSpaceStatisticsStream statisticsStream;
+
+    // Totals across all team spaces, no per-space detail: open to any authenticated user
+    @Override
+    public SseEmitter handle(RequestContext context) {
+        log.debug("User {} subscribing to the statistics stream", context.getUser().get().getIgg());
+        return statisticsStream.subscribe();
+    }
+}
@@ -8,9 +8,22 @@ public class TeamSpace {
     private String name;
     private String description;
     private TeamSpaceStatus status;
+    // Lazy views when loaded from the database: only read them when the whole collection is really needed,
+    // use the paged queries of TeamSpaceMemberRepository / TeamSpaceFolderRepository otherwise
+    @Builder.Default
     private Set<TeamSpaceMember> members = new HashSet<>();
+    @Builder.Default
+    private Set<Folder> folders = new HashSet<>();
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime archivedAt;
+    private LocalDateTime tieredAt;
+    private Long version;
+
+    public boolean isMember(String userIgg) {
+        return members.stream()
+                .anyMatch(member -> member.getUserIgg().equals(userIgg));
+    }
 
     public boolean isUserAdmin(String userIgg) {
         return members.stream()
@@ -28,4 +41,4 @@ public class TeamSpace {
     public void addMember(TeamSpaceMember member) {
         members.add(member);
     }
-}
\ No newline at end of file
+}
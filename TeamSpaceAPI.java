@@ -1,12 +1,62 @@
-public interface TeamSpaceAPI extends CreateTeamSpace, AddTeamSpaceMember {
+public interface TeamSpaceAPI extends CreateTeamSpace, AddTeamSpaceMember, ListTeamSpaceMembers, ListTeamSpaceFolders,
+        BulkAddTeamSpaceMembers, ListMyTeamSpaces, ArchiveTeamSpace, UnarchiveTeamSpace,
+        SearchTeamSpaceContent, GetTeamSpaceStats, StreamTeamSpaceStatistics, ExportTeamSpace {
 
     @PostMapping("/team-spaces")
     @ResponseStatus(HttpStatus.CREATED)
     @Override
-    TeamSpaceDTO handle(@Valid @RequestBody CreateTeamSpaceRequest input, RequestContext context);
+    TeamSpaceSummaryDTO handle(@Valid @RequestBody CreateTeamSpaceRequest input, RequestContext context);
+
+    @GetMapping("/team-spaces")
+    @Override
+    KeysetPageDTO<TeamSpaceSummaryDTO> handle(@Valid ListMyTeamSpacesRequest input, RequestContext context);
+
+    @GetMapping("/team-spaces/search")
+    @Override
+    List<SearchHitDTO> handle(@Valid SearchTeamSpaceContentRequest input, RequestContext context);
 
     @PostMapping("/team-spaces/members")
     @ResponseStatus(HttpStatus.CREATED)
     @Override
     TeamSpaceMemberDTO handle(@Valid @RequestBody AddTeamSpaceMemberRequest input, RequestContext context);
-}
\ No newline at end of file
+
+    @PostMapping("/team-spaces/members/bulk")
+    @Override
+    BulkAddTeamSpaceMembersResultDTO handle(@Valid @RequestBody BulkAddTeamSpaceMembersRequest input, RequestContext context);
+
+    @GetMapping("/team-spaces/{teamSpaceId}/members")
+    @Override
+    KeysetPageDTO<TeamSpaceMemberDTO> handle(@Valid ListTeamSpaceMembersRequest input, RequestContext context);
+
+    @GetMapping("/team-spaces/{teamSpaceId}/folders")
+    @Override
+    KeysetPageDTO<FolderDTO> handle(@Valid ListTeamSpaceFoldersRequest input, RequestContext context);
+
+    // Events "snapshot" then "delta" (changed totals only), plus heartbeat comments
+    @GetMapping(value = "/team-spaces/statistics/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    SseEmitter handle(RequestContext context);
+
+    @GetMapping("/team-spaces/{teamSpaceId}/stats")
+    @Override
+    TeamSpaceStatsDTO handle(@Valid GetTeamSpaceStatsRequest input, RequestContext context);
+
+    // One JSON document per line: the team space, its members, its folders parents first, its documents
+    @GetMapping(value = "/team-spaces/{teamSpaceId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    ResponseEntity<StreamingResponseBody> handle(@Valid ExportTeamSpaceRequest input, RequestContext context);
+
+    // Raw request body, an export read line by line into a new team space
+    @PostMapping(value = "/team-spaces/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    TeamSpaceSummaryDTO importTeamSpace(@RequestParam(required = false) String name, HttpServletRequest servletRequest,
+                                        RequestContext context) throws IOException;
+
+    @PostMapping("/team-spaces/{teamSpaceId}/archive")
+    @Override
+    TeamSpaceSummaryDTO handle(@Valid ArchiveTeamSpaceRequest input, RequestContext context);
+
+    @PostMapping("/team-spaces/{teamSpaceId}/unarchive")
+    @Override
+    TeamSpaceSummaryDTO handle(@Valid UnarchiveTeamSpaceRequest input, RequestContext context);
+}
@@ -0,0 +1,30 @@
+@Component
+@Slf4j
+public class TeamSpaceArchivalJob {
+    private static final int BATCH_SIZE = 10;
+
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceColdStorage coldStorage;
+    private final Duration coldAfter;
+
+    public TeamSpaceArchivalJob(TeamSpaceRepository teamSpaceRepository,
+                                TeamSpaceColdStorage coldStorage,
+                                @Value("${teamspace.archival.cold-after:P7D}") Duration coldAfter) {
+        this.teamSpaceRepository = teamSpaceRepository;
+        this.coldStorage = coldStorage;
+        this.coldAfter = coldAfter;
+    }
+
+    // Team spaces stay in the hot tables for a while after being archived, so that an undo is cheap
+    @Scheduled(fixedDelayString = "${teamspace.archival.interval:PT6H}")
+    public void moveArchivedTeamSpacesToColdTier() {
+        List<Long> teamSpaceIds = teamSpaceRepository.findIdsToTier(LocalDateTime.now().minus(coldAfter), BATCH_SIZE);
+        for (Long teamSpaceId : teamSpaceIds) {
+            try {
+                coldStorage.moveToColdTier(teamSpaceId);
+            } catch (RuntimeException e) {
+                log.error("Could not move team space {} to the cold tier", teamSpaceId, e);
+            }
+        }
+    }
+}
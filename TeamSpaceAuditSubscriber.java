@@ -0,0 +1,39 @@
+// Audit trail of the team space changes, written to its own logger so that it can be routed apart
+@Component
+public class TeamSpaceAuditSubscriber implements TeamSpaceEventSubscriber {
+    private static final Logger AUDIT = LoggerFactory.getLogger("teamspace.audit");
+
+    @Override
+    public String getName() {
+        return "audit";
+    }
+
+    @Override
+    public void onEvents(List<TeamSpaceDomainEvent> events) {
+        for (TeamSpaceDomainEvent event : events) {
+            if (event instanceof TeamSpaceCreatedEvent created) {
+                AUDIT.info("team_space={} action=CREATED by={} at={}",
+                        created.getTeamSpaceId(), created.getOwnerIgg(), created.getOccurredAt());
+            } else if (event instanceof TeamSpaceMemberAddedEvent added) {
+                AUDIT.info("team_space={} action=MEMBER_ADDED member={} role={} by={} at={}",
+                        added.getTeamSpaceId(), added.getMemberIgg(), added.getRole(), added.getAddedBy(), added.getOccurredAt());
+            } else if (event instanceof TeamSpaceMemberRemovedEvent removed) {
+                AUDIT.info("team_space={} action=MEMBER_REMOVED member={} role={} by={} at={}",
+                        removed.getTeamSpaceId(), removed.getMemberIgg(), removed.getRole(), removed.getRemovedBy(),
+                        removed.getOccurredAt());
+            } else if (event instanceof TeamSpaceMemberRoleChangedEvent changed) {
+                AUDIT.info("team_space={} action=ROLE_CHANGED member={} from={} to={} by={} at={}",
+                        changed.getTeamSpaceId(), changed.getMemberIgg(), changed.getPreviousRole(), changed.getNewRole(),
+                        changed.getChangedBy(), changed.getOccurredAt());
+            } else if (event instanceof CollaborativeFolderCreatedEvent folder) {
+                AUDIT.info("team_space={} action=FOLDER_CREATED folder={} parent={} by={} at={}",
+                        folder.getTeamSpaceId(), folder.getFolderId(), folder.getParentFolderId(), folder.getCreatedBy(),
+                        folder.getOccurredAt());
+            } else if (event instanceof DocumentSharedEvent shared) {
+                AUDIT.info("team_space={} action=DOCUMENT_SHARED document={} source={} folder={} by={} at={}",
+                        shared.getTeamSpaceId(), shared.getDocumentId(), shared.getSourceDocumentId(), shared.getFolderId(),
+                        shared.getSharedBy(), shared.getOccurredAt());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// Hibernate second-level and query caches for the team space entities, on Ehcache through JCache: in-process,
+// no cache server to run. Sizes and time-to-live of every region are declared in ehcache.xml, and a region missing
+// from it fails the startup instead of silently getting an unbounded cache.
+// Writes that bypass Hibernate must evict what they touch (see TeamSpaceColdStorage), and native modifying queries
+// declare their table as query space: without it Hibernate drops every cache region on each of them.
+@Configuration
+public class TeamSpaceCacheConfig implements HibernatePropertiesCustomizer {
+    public static final String TEAM_SPACES = "teamSpaces";
+    public static final String TEAM_SPACE_MEMBER_SETS = "teamSpaces.members";
+    public static final String TEAM_SPACE_FOLDER_SETS = "teamSpaces.folders";
+    public static final String TEAM_SPACE_MEMBERS = "teamSpaceMembers";
+    public static final String FOLDERS = "folders";
+    public static final String TEAM_SPACE_QUERIES = "teamSpaceQueries";
+
+    public static final List<String> DOMAIN_REGIONS = List.of(
+            TEAM_SPACES, TEAM_SPACE_MEMBER_SETS, TEAM_SPACE_FOLDER_SETS, TEAM_SPACE_MEMBERS, FOLDERS);
+    public static final List<String> QUERY_REGIONS = List.of(TEAM_SPACE_QUERIES);
+
+    private final boolean statisticsEnabled;
+
+    public TeamSpaceCacheConfig(@Value("${teamspace.cache.statistics:true}") boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        hibernateProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+        hibernateProperties.put("hibernate.javax.cache.uri", "classpath:ehcache.xml");
+        hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        // Adding or removing a member evicts the cached members collection of its team space
+        hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        // Hit and miss counts per region, published by TeamSpaceCacheMetrics
+        hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+    }
+}
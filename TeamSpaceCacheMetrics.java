@@ -0,0 +1,44 @@
+// Publishes the hit, miss and put counts of the team space cache regions, read from the Hibernate statistics
+@Component
+@RequiredArgsConstructor
+public class TeamSpaceCacheMetrics implements MeterBinder {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String region : TeamSpaceCacheConfig.DOMAIN_REGIONS) {
+            bindRegion(registry, region, "entity", () -> statistics.getDomainDataRegionStatistics(region));
+        }
+        for (String region : TeamSpaceCacheConfig.QUERY_REGIONS) {
+            bindRegion(registry, region, "query", () -> statistics.getQueryRegionStatistics(region));
+        }
+    }
+
+    // Region statistics only exist once the region has been used: read them lazily on every scrape
+    private void bindRegion(MeterRegistry registry, String region, String kind, Supplier<CacheRegionStatistics> regionStatistics) {
+        FunctionCounter.builder("teamspace.cache.requests", regionStatistics, s -> count(s.get(), CacheRegionStatistics::getHitCount))
+                .tags("region", region, "kind", kind, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("teamspace.cache.requests", regionStatistics, s -> count(s.get(), CacheRegionStatistics::getMissCount))
+                .tags("region", region, "kind", kind, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("teamspace.cache.puts", regionStatistics, s -> count(s.get(), CacheRegionStatistics::getPutCount))
+                .tags("region", region, "kind", kind)
+                .register(registry);
+        Gauge.builder("teamspace.cache.size", regionStatistics, s -> count(s.get(), CacheRegionStatistics::getElementCountInMemory))
+                .tags("region", region, "kind", kind)
+                .register(registry);
+    }
+
+    private static double count(CacheRegionStatistics statistics, ToLongFunction<CacheRegionStatistics> counter) {
+        if (statistics == null) {
+            return 0;
+        }
+        // NO_EXTENDED_STAT_SUPPORT_RETURN (-1) when the provider cannot tell
+        return Math.max(0, counter.applyAsLong(statistics));
+    }
+}
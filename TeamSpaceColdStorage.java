@@ -0,0 +1,304 @@
+// Moves the folders and documents of an archived team space out of the hot tables into compressed archive segments,
+// and back when the team space is unarchived. Works on plain table rows so that every column survives the round trip,
+// including the ones added after this code was written.
+@Component
+@Slf4j
+public class TeamSpaceColdStorage {
+    private static final int SEGMENT_ROWS = 5000;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private static final String FOLDERS_QUERY = "SELECT f.* FROM folders f WHERE f.team_space_id = ?"
+            // Parents before children, whatever the order they were created or moved in
+            + " ORDER BY (SELECT COALESCE(MAX(c.depth), 0) FROM folder_closure c WHERE c.descendant_id = f.id), f.id";
+    private static final String DOCUMENT_IDS = "SELECT d.id FROM documents d JOIN folders f ON d.folder_id = f.id WHERE f.team_space_id = ?";
+    private static final String DOCUMENTS_QUERY = "SELECT d.* FROM documents d JOIN folders f ON d.folder_id = f.id"
+            + " WHERE f.team_space_id = ? ORDER BY d.id";
+    // Blobs referenced by nothing but the documents of the team space
+    private static final String EXCLUSIVE_BLOBS_QUERY = "SELECT d.content_hash AS hash, b.ref_count AS ref_count"
+            + " FROM documents d JOIN folders f ON d.folder_id = f.id JOIN content_blobs b ON b.hash = d.content_hash"
+            + " WHERE f.team_space_id = ? AND b.tier = 'HOT'"
+            + " GROUP BY d.content_hash, b.ref_count HAVING COUNT(*) = b.ref_count";
+    // Copies outside the team space of a document inside it (documents.original_document_id, fk_document_original)
+    private static final String EXTERNAL_COPIES = "SELECT c.id FROM documents c"
+            + " JOIN documents o ON o.id = c.original_document_id JOIN folders fo ON fo.id = o.folder_id"
+            + " LEFT JOIN folders fc ON fc.id = c.folder_id"
+            + " WHERE fo.team_space_id = ? AND (fc.team_space_id IS NULL OR fc.team_space_id <> fo.team_space_id)";
+    // Pseudo table of the archive: the links detached from those copies, restored by a rehydrate
+    private static final String EXTERNAL_COPIES_SEGMENT = "external_copies";
+    private static final String REBUILD_CLOSURE = "INSERT INTO folder_closure (ancestor_id, descendant_id, depth, team_space_id)"
+            + " WITH RECURSIVE tree (ancestor_id, descendant_id, depth, team_space_id) AS ("
+            + " SELECT id, id, 0, team_space_id FROM folders WHERE team_space_id = ?"
+            + " UNION ALL SELECT t.ancestor_id, f.id, t.depth + 1, t.team_space_id FROM tree t"
+            + " JOIN folders f ON f.parent_id = t.descendant_id AND f.team_space_id = t.team_space_id)"
+            + " SELECT ancestor_id, descendant_id, depth, team_space_id FROM tree";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveSegmentCodec segmentCodec;
+    private final ColdBlobTier coldBlobTier;
+    private final TransactionTemplate blobTransaction;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public TeamSpaceColdStorage(DataSource dataSource,
+                                ArchiveSegmentCodec segmentCodec,
+                                ColdBlobTier coldBlobTier,
+                                PlatformTransactionManager transactionManager,
+                                EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Stream the rows to archive instead of materializing whole result sets
+        this.jdbcTemplate.setFetchSize(500);
+        this.segmentCodec = segmentCodec;
+        this.coldBlobTier = coldBlobTier;
+        this.blobTransaction = new TransactionTemplate(transactionManager);
+        this.blobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Transactional
+    public boolean moveToColdTier(Long teamSpaceId) {
+        // Locks the team space row: an unarchive waits for the move to complete
+        Map<String, Object> teamSpace = jdbcTemplate.queryForMap(
+                "SELECT status, tiered_at FROM team_spaces WHERE id = ? FOR UPDATE", teamSpaceId);
+        if (!TeamSpaceStatus.ARCHIVED.name().equals(teamSpace.get("status")) || teamSpace.get("tiered_at") != null) {
+            return false;
+        }
+
+        List<ForeignKey> documentChildren = documentChildTables();
+        AtomicInteger segmentOrder = new AtomicInteger();
+        writeSegments(teamSpaceId, "folders", FOLDERS_QUERY, segmentOrder);
+        writeSegments(teamSpaceId, "documents", DOCUMENTS_QUERY, segmentOrder);
+        for (ForeignKey child : documentChildren) {
+            writeSegments(teamSpaceId, child.table(),
+                    "SELECT x.* FROM " + child.table() + " x WHERE x." + child.column() + " IN (" + DOCUMENT_IDS + ")", segmentOrder);
+        }
+        // Last segment: a rehydrate reads it once the documents are back
+        writeSegments(teamSpaceId, EXTERNAL_COPIES_SEGMENT,
+                "SELECT x.id, x.original_document_id FROM documents x WHERE x.id IN (" + EXTERNAL_COPIES + ")", segmentOrder);
+
+        Map<String, Long> exclusiveBlobs = new HashMap<>();
+        jdbcTemplate.query(EXCLUSIVE_BLOBS_QUERY,
+                (RowCallbackHandler) rs -> exclusiveBlobs.put(rs.getString("hash"), rs.getLong("ref_count")), teamSpaceId);
+
+        // Copies shared out of the team space stay hot: they lose the link to their original while it is archived,
+        // instead of keeping the whole team space from being tiered
+        int detached = jdbcTemplate.update("UPDATE documents SET original_document_id = NULL WHERE id IN (" + EXTERNAL_COPIES + ")", teamSpaceId);
+        // Children first; the folder closure and upload sessions follow the folders through ON DELETE CASCADE
+        for (ForeignKey child : documentChildren) {
+            jdbcTemplate.update("DELETE FROM " + child.table() + " WHERE " + child.column() + " IN (" + DOCUMENT_IDS + ")", teamSpaceId);
+        }
+        int documents = jdbcTemplate.update("DELETE FROM documents WHERE folder_id IN (SELECT id FROM folders WHERE team_space_id = ?)", teamSpaceId);
+        int folders = jdbcTemplate.update("DELETE FROM folders WHERE team_space_id = ?", teamSpaceId);
+        jdbcTemplate.update("UPDATE team_spaces SET tiered_at = CURRENT_TIMESTAMP WHERE id = ?", teamSpaceId);
+        log.info("Team space {} moved to the cold tier: {} folders, {} documents in {} segments, {} external copies detached",
+                teamSpaceId, folders, documents, segmentOrder.get(), detached);
+
+        // Blobs only move once the metadata move is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCachedRows(teamSpaceId);
+                exclusiveBlobs.forEach(TeamSpaceColdStorage.this::demoteBlob);
+            }
+        });
+        return true;
+    }
+
+    @Transactional
+    public void rehydrate(Long teamSpaceId) {
+        Map<String, Object> teamSpace = jdbcTemplate.queryForMap("SELECT tiered_at FROM team_spaces WHERE id = ? FOR UPDATE", teamSpaceId);
+        if (teamSpace.get("tiered_at") == null) {
+            return;
+        }
+        log.info("Rehydrating team space {} from the cold tier", teamSpaceId);
+
+        jdbcTemplate.query("SELECT table_name, payload FROM team_space_archive_segments WHERE team_space_id = ? ORDER BY segment_order",
+                (RowCallbackHandler) rs -> {
+                    try {
+                        String table = rs.getString("table_name");
+                        List<Map<String, Object>> rows = segmentCodec.decode(rs.getBytes("payload"));
+                        if (EXTERNAL_COPIES_SEGMENT.equals(table)) {
+                            reattachExternalCopies(rows);
+                        } else {
+                            insertRows(table, rows);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not read archive segment of team space " + teamSpaceId, e);
+                    }
+                }, teamSpaceId);
+        jdbcTemplate.update(REBUILD_CLOSURE, teamSpaceId);
+
+        List<String> hashes = jdbcTemplate.queryForList("SELECT DISTINCT d.content_hash FROM documents d"
+                + " JOIN folders f ON d.folder_id = f.id WHERE f.team_space_id = ? AND d.content_hash IS NOT NULL", String.class, teamSpaceId);
+        for (String hash : hashes) {
+            try {
+                coldBlobTier.promote(hash);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not rehydrate blob " + hash, e);
+            }
+            jdbcTemplate.update("UPDATE content_blobs SET tier = 'HOT' WHERE hash = ?", hash);
+        }
+
+        jdbcTemplate.update("DELETE FROM team_space_archive_segments WHERE team_space_id = ?", teamSpaceId);
+        jdbcTemplate.update("UPDATE team_spaces SET tiered_at = NULL WHERE id = ?", teamSpaceId);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCachedRows(teamSpaceId);
+            }
+        });
+    }
+
+    // These plain JDBC writes are invisible to the Hibernate second-level cache. Evicted after commit, so that
+    // a concurrent read cannot cache the old rows again in between. The cached queries do not depend on tiered_at.
+    private void evictCachedRows(Long teamSpaceId) {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(TeamSpaceEntity.class, teamSpaceId);
+        cache.evict(FolderEntity.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictCollectionData(TeamSpaceEntity.class.getName() + ".folders", teamSpaceId);
+    }
+
+    private void demoteBlob(String hash, long expectedRefCount) {
+        try {
+            // The row lock keeps new references away while the bytes move; a reference added later rehydrates the blob
+            blobTransaction.executeWithoutResult(status -> {
+                if (jdbcTemplate.update("UPDATE content_blobs SET tier = 'COLD' WHERE hash = ? AND tier = 'HOT' AND ref_count = ?",
+                        hash, expectedRefCount) == 1) {
+                    try {
+                        coldBlobTier.demote(hash);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Blob {} stays in the hot tier", hash, e);
+        }
+    }
+
+    private void writeSegments(Long teamSpaceId, String table, String query, AtomicInteger segmentOrder) {
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+        List<Map<String, Object>> rows = new ArrayList<>(SEGMENT_ROWS);
+        jdbcTemplate.query(query, (RowCallbackHandler) rs -> {
+            rows.add(rowMapper.mapRow(rs, rows.size()));
+            if (rows.size() == SEGMENT_ROWS) {
+                writeSegment(teamSpaceId, table, rows, segmentOrder.getAndIncrement());
+                rows.clear();
+            }
+        }, teamSpaceId);
+        if (!rows.isEmpty()) {
+            writeSegment(teamSpaceId, table, rows, segmentOrder.getAndIncrement());
+        }
+    }
+
+    private void writeSegment(Long teamSpaceId, String table, List<Map<String, Object>> rows, int segmentOrder) {
+        try {
+            jdbcTemplate.update("INSERT INTO team_space_archive_segments (team_space_id, table_name, segment_order, row_count, payload, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)", teamSpaceId, table, segmentOrder, rows.size(), segmentCodec.encode(rows));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write archive segment of " + table, e);
+        }
+    }
+
+    private void insertRows(String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (table.equals("documents")) {
+            dropMissingOriginals(rows);
+        }
+        Map<String, Integer> columnTypes = columnTypes(requireIdentifier(table));
+        // Columns dropped since the archive was written are ignored, new columns take their default
+        List<String> columns = rows.get(0).keySet().stream()
+                .filter(columnTypes::containsKey)
+                .map(TeamSpaceColdStorage::requireIdentifier)
+                .collect(Collectors.toList());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        int[] types = columns.stream().mapToInt(columnTypes::get).toArray();
+        List<Object[]> batch = rows.stream()
+                .map(row -> columns.stream()
+                        .map(column -> segmentCodec.fromJsonValue(row.get(column), columnTypes.get(column)))
+                        .toArray())
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(sql, batch, types);
+    }
+
+    // A copy deleted, or linked to another original, since the tiering is left as it is
+    private void reattachExternalCopies(List<Map<String, Object>> rows) {
+        List<Object[]> links = rows.stream()
+                .map(row -> new Object[]{segmentCodec.fromJsonValue(row.get("original_document_id"), Types.BIGINT),
+                        segmentCodec.fromJsonValue(row.get("id"), Types.BIGINT)})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("UPDATE documents SET original_document_id = ? WHERE id = ? AND original_document_id IS NULL", links);
+    }
+
+    // Documents of the team space copied from a document outside of it: that original may have been deleted meanwhile.
+    // The copy comes back without its link rather than failing the whole rehydrate on fk_document_original.
+    // Originals inside the team space have a lower id: segments are read in id order, the original is already back or
+    // comes earlier in the same batch.
+    private void dropMissingOriginals(List<Map<String, Object>> rows) {
+        List<Long> originals = rows.stream()
+                .map(row -> row.get("original_document_id"))
+                .filter(Objects::nonNull)
+                .map(value -> ((Number) value).longValue())
+                .distinct()
+                .collect(Collectors.toList());
+        if (originals.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = rows.stream()
+                .map(row -> ((Number) row.get("id")).longValue())
+                .collect(Collectors.toCollection(HashSet::new));
+        for (int from = 0; from < originals.size(); from += 1000) {
+            List<Long> slice = originals.subList(from, Math.min(from + 1000, originals.size()));
+            existing.addAll(jdbcTemplate.queryForList("SELECT id FROM documents WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(slice.size(), "?")) + ")", Long.class, slice.toArray()));
+        }
+        for (Map<String, Object> row : rows) {
+            Object original = row.get("original_document_id");
+            if (original != null && !existing.contains(((Number) original).longValue())) {
+                log.info("Original of document {} no longer exists, the document is restored without it", row.get("id"));
+                row.put("original_document_id", null);
+            }
+        }
+    }
+
+    private Map<String, Integer> columnTypes(String table) {
+        return jdbcTemplate.query("SELECT * FROM " + table + " WHERE 1 = 0", rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            Map<String, Integer> types = new HashMap<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                types.put(metaData.getColumnName(i).toLowerCase(Locale.ROOT), metaData.getColumnType(i));
+            }
+            return types;
+        });
+    }
+
+    // Tables holding per-document rows (tags, metadata, versions...), found through their foreign keys.
+    // The self reference of documents is not one of them, see EXTERNAL_COPIES
+    private List<ForeignKey> documentChildTables() {
+        return jdbcTemplate.execute((ConnectionCallback<List<ForeignKey>>) connection -> {
+            List<ForeignKey> children = new ArrayList<>();
+            try (ResultSet keys = connection.getMetaData().getExportedKeys(connection.getCatalog(), connection.getSchema(), "documents")) {
+                while (keys.next()) {
+                    String table = keys.getString("FKTABLE_NAME").toLowerCase(Locale.ROOT);
+                    if (!table.equals("documents") && keys.getShort("KEY_SEQ") == 1) {
+                        children.add(new ForeignKey(requireIdentifier(table), requireIdentifier(keys.getString("FKCOLUMN_NAME").toLowerCase(Locale.ROOT))));
+                    }
+                }
+            }
+            return children;
+        });
+    }
+
+    private static String requireIdentifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalStateException("Unexpected identifier " + name);
+        }
+        return name;
+    }
+
+    private record ForeignKey(String table, String column) {
+    }
+}
@@ -4,14 +4,84 @@
 public class TeamSpaceController implements TeamSpaceAPI {
     private final CreateTeamSpace createTeamSpace;
     private final AddTeamSpaceMember addTeamSpaceMember;
+    private final ListTeamSpaceMembers listTeamSpaceMembers;
+    private final ListTeamSpaceFolders listTeamSpaceFolders;
+    private final BulkAddTeamSpaceMembers bulkAddTeamSpaceMembers;
+    private final ListMyTeamSpaces listMyTeamSpaces;
+    private final ArchiveTeamSpace archiveTeamSpace;
+    private final UnarchiveTeamSpace unarchiveTeamSpace;
+    private final SearchTeamSpaceContent searchTeamSpaceContent;
+    private final GetTeamSpaceStats getTeamSpaceStats;
+    private final StreamTeamSpaceStatistics streamTeamSpaceStatistics;
+    private final ExportTeamSpace exportTeamSpace;
+    private final ImportTeamSpace importTeamSpace;
 
     @Override
-    public TeamSpaceDTO handle(CreateTeamSpaceRequest input, RequestContext context) {
+    public TeamSpaceSummaryDTO handle(CreateTeamSpaceRequest input, RequestContext context) {
         return createTeamSpace.handle(input, context);
     }
 
+    @Override
+    public KeysetPageDTO<TeamSpaceSummaryDTO> handle(ListMyTeamSpacesRequest input, RequestContext context) {
+        return listMyTeamSpaces.handle(input, context);
+    }
+
     @Override
     public TeamSpaceMemberDTO handle(AddTeamSpaceMemberRequest input, RequestContext context) {
         return addTeamSpaceMember.handle(input, context);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BulkAddTeamSpaceMembersResultDTO handle(BulkAddTeamSpaceMembersRequest input, RequestContext context) {
+        return bulkAddTeamSpaceMembers.handle(input, context);
+    }
+
+    @Override
+    public KeysetPageDTO<TeamSpaceMemberDTO> handle(ListTeamSpaceMembersRequest input, RequestContext context) {
+        return listTeamSpaceMembers.handle(input, context);
+    }
+
+    @Override
+    public KeysetPageDTO<FolderDTO> handle(ListTeamSpaceFoldersRequest input, RequestContext context) {
+        return listTeamSpaceFolders.handle(input, context);
+    }
+
+    @Override
+    public SseEmitter handle(RequestContext context) {
+        return streamTeamSpaceStatistics.handle(context);
+    }
+
+    @Override
+    public TeamSpaceStatsDTO handle(GetTeamSpaceStatsRequest input, RequestContext context) {
+        return getTeamSpaceStats.handle(input, context);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> handle(ExportTeamSpaceRequest input, RequestContext context) {
+        return exportTeamSpace.handle(input, context);
+    }
+
+    @Override
+    public TeamSpaceSummaryDTO importTeamSpace(String name, HttpServletRequest servletRequest, RequestContext context)
+            throws IOException {
+        return importTeamSpace.handle(ImportTeamSpaceRequest.builder()
+                .name(name)
+                .content(servletRequest.getInputStream())
+                .build(), context);
+    }
+
+    @Override
+    public TeamSpaceSummaryDTO handle(ArchiveTeamSpaceRequest input, RequestContext context) {
+        return archiveTeamSpace.handle(input, context);
+    }
+
+    @Override
+    public TeamSpaceSummaryDTO handle(UnarchiveTeamSpaceRequest input, RequestContext context) {
+        return unarchiveTeamSpace.handle(input, context);
+    }
+
+    @Override
+    public List<SearchHitDTO> handle(SearchTeamSpaceContentRequest input, RequestContext context) {
+        return searchTeamSpaceContent.handle(input, context);
+    }
+}
@@ -0,0 +1,11 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TeamSpaceCreatedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private String name;
+    private String description;
+    private String ownerIgg;
+    private LocalDateTime occurredAt;
+}
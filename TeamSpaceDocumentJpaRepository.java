@@ -0,0 +1,21 @@
+@Repository
+public interface TeamSpaceDocumentJpaRepository extends JpaRepository<DocumentEntity, Long> {
+
+    @Query("SELECT d.id FROM DocumentEntity d WHERE d.folder.id IN :folderIds ORDER BY d.id")
+    List<Long> findIdsByFolderIds(@Param("folderIds") Collection<Long> folderIds);
+
+    @Query("SELECT DISTINCT d.folder FROM DocumentEntity d WHERE d.id IN :ids")
+    List<FolderEntity> findFoldersByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByIdInAndFolderIsNull(Collection<Long> ids);
+
+    // Export cursor over the document ids, the documents themselves are loaded by chunks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT d.id FROM DocumentEntity d WHERE d.folder.teamSpace.id = :teamSpaceId ORDER BY d.id")
+    Stream<Long> streamIdsByTeamSpaceId(@Param("teamSpaceId") Long teamSpaceId);
+
+    // Tags and metadata are copied with the document, fetch them with the chunk
+    @EntityGraph(attributePaths = {"tags", "metadata"})
+    @Query("SELECT DISTINCT d FROM DocumentEntity d WHERE d.id IN :ids")
+    List<DocumentEntity> findAllWithTagsAndMetadataByIdIn(@Param("ids") Collection<Long> ids);
+}
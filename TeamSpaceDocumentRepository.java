@@ -0,0 +1,7 @@
+public interface TeamSpaceDocumentRepository {
+    List<Long> findIdsByFolderIds(Collection<Long> folderIds);
+    List<Document> findAllByIds(Collection<Long> ids);
+    List<Folder> findFoldersOf(Collection<Long> documentIds);
+    long countOutsideFolders(Collection<Long> documentIds);
+    List<Document> saveAll(List<Document> documents);
+}
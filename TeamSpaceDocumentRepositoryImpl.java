@@ -0,0 +1,81 @@
+@Component
+@RequiredArgsConstructor
+public class TeamSpaceDocumentRepositoryImpl implements TeamSpaceDocumentRepository {
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    private final TeamSpaceDocumentJpaRepository teamSpaceDocumentJpaRepository;
+    private final DocumentMapper documentMapper;
+    private final FolderMapper folderMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsByFolderIds(Collection<Long> folderIds) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> folders = new ArrayList<>(folderIds);
+        for (int from = 0; from < folders.size(); from += IN_CLAUSE_SIZE) {
+            ids.addAll(teamSpaceDocumentJpaRepository.findIdsByFolderIds(
+                    folders.subList(from, Math.min(from + IN_CLAUSE_SIZE, folders.size()))));
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Document> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return teamSpaceDocumentJpaRepository.findAllWithTagsAndMetadataByIdIn(ids).stream()
+                .map(documentMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Folder> findFoldersOf(Collection<Long> documentIds) {
+        Map<Long, Folder> folders = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>(documentIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            teamSpaceDocumentJpaRepository.findFoldersByIdIn(ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())))
+                    .forEach(folder -> folders.putIfAbsent(folder.getId(), folderMapper.toDomain(folder)));
+        }
+        return new ArrayList<>(folders.values());
+    }
+
+    @Override
+    public long countOutsideFolders(Collection<Long> documentIds) {
+        long count = 0;
+        List<Long> ids = new ArrayList<>(documentIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            count += teamSpaceDocumentJpaRepository.countByIdInAndFolderIsNull(
+                    ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+        }
+        return count;
+    }
+
+    @Override
+    public List<Document> saveAll(List<Document> documents) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            List<DocumentEntity> entities = new ArrayList<>(documents.size());
+            for (Document document : documents) {
+                DocumentEntity entity = documentMapper.toEntity(document);
+                entityManager.persist(entity);
+                entities.add(entity);
+                if (entities.size() % INSERT_BATCH_SIZE == 0) {
+                    entityManager.flush();
+                }
+            }
+            entityManager.flush();
+            List<Document> saved = entities.stream()
+                    .map(documentMapper::toDomain)
+                    .collect(Collectors.toList());
+            // The chunk is done, keep the persistence context from growing over the whole job
+            entityManager.clear();
+            return saved;
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+// Written to the team space outbox in the transaction of the change it describes, then delivered
+// after commit to every TeamSpaceEventSubscriber, at least once
+public interface TeamSpaceDomainEvent {
+    Long getTeamSpaceId();
+
+    LocalDateTime getOccurredAt();
+}
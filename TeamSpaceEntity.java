@@ -1,5 +1,6 @@
 @Entity
 @Table(name = "team_spaces")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TeamSpaceCacheConfig.TEAM_SPACES)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,9 +21,11 @@ public class TeamSpaceEntity {
     private TeamSpaceStatus status;
 
     @OneToMany(mappedBy = "teamSpace", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TeamSpaceCacheConfig.TEAM_SPACE_MEMBER_SETS)
     private Set<TeamSpaceMemberEntity> members = new HashSet<>();
 
     @OneToMany(mappedBy = "teamSpace", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TeamSpaceCacheConfig.TEAM_SPACE_FOLDER_SETS)
     private Set<Folder> folders = new HashSet<>();
 
     @Column(name = "created_at")
@@ -31,6 +34,17 @@ public class TeamSpaceEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // Set once the folders and documents of an archived team space have been moved to the cold tier
+    @Column(name = "tiered_at")
+    private LocalDateTime tieredAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
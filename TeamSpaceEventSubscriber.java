@@ -0,0 +1,8 @@
+// Receives the team space events in batches, in outbox order, after the producing transaction committed.
+// Delivery is at least once: a batch may be replayed after a failure or a restart, handlers must be idempotent.
+// An event failing delivery is retried later, possibly after events that were written after it.
+public interface TeamSpaceEventSubscriber {
+    String getName();
+
+    void onEvents(List<TeamSpaceDomainEvent> events);
+}
@@ -0,0 +1,35 @@
+// One line of a team space export (application/x-ndjson), told apart by its "type" property. Lines come in order:
+// the team space, its members, its folders parents first, its documents, and an "end" line holding the counts,
+// so that an import reads the file in a single pass and rejects a truncated one. The end line also carries the
+// signature of the lines before it, see TeamSpaceExportSigner.
+// Document content is not exported: documents point at their blob by hash, the import resolves its location.
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = TeamSpaceExportRecord.TeamSpaceLine.class, name = "teamSpace"),
+        @JsonSubTypes.Type(value = TeamSpaceExportRecord.MemberLine.class, name = "member"),
+        @JsonSubTypes.Type(value = TeamSpaceExportRecord.FolderLine.class, name = "folder"),
+        @JsonSubTypes.Type(value = TeamSpaceExportRecord.DocumentLine.class, name = "document"),
+        @JsonSubTypes.Type(value = TeamSpaceExportRecord.EndLine.class, name = "end")
+})
+public sealed interface TeamSpaceExportRecord {
+    int FORMAT_VERSION = 2;
+
+    record TeamSpaceLine(int formatVersion, Long id, String name, String description,
+                         LocalDateTime createdAt) implements TeamSpaceExportRecord {
+    }
+
+    record MemberLine(String userIgg, TeamSpaceRole role, LocalDateTime joinedAt) implements TeamSpaceExportRecord {
+    }
+
+    record FolderLine(Long id, Long parentId, String name, String description, boolean collaborative,
+                      LocalDateTime createdAt) implements TeamSpaceExportRecord {
+    }
+
+    record DocumentLine(Long id, Long folderId, String name, String description, String version, String fileType,
+                        Long fileSize, String contentHash, DocumentStatus status, Set<String> tags,
+                        Map<String, String> metadata) implements TeamSpaceExportRecord {
+    }
+
+    record EndLine(long members, long folders, long documents, String signature) implements TeamSpaceExportRecord {
+    }
+}
@@ -0,0 +1,36 @@
+// HMAC-SHA256 of the lines of a team space export, carried by its end line. An import only accepts files written
+// by TeamSpaceExporter: the content hashes they hold were read from a team space the exporting user administered,
+// a hand-written file cannot attach documents to arbitrary blobs. Every node shares the key.
+@Component
+public class TeamSpaceExportSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public TeamSpaceExportSigner(@Value("${teamspace.export.signing-key}") String signingKey) {
+        if (signingKey.length() < 32) {
+            throw new IllegalStateException("teamspace.export.signing-key must be at least 32 characters long");
+        }
+        this.key = new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String sign(Mac mac) {
+        return HexFormat.of().formatHex(mac.doFinal());
+    }
+
+    public boolean verify(Mac mac, String signature) {
+        // Constant time comparison
+        return signature != null && MessageDigest.isEqual(sign(mac).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,133 @@
+// Writes a team space as NDJSON, one TeamSpaceExportRecord per line, from forward-only cursors in a read-only
+// transaction. The persistence context is cleared every chunk: memory stays flat whatever the size of the team space.
+@Component
+@Slf4j
+public class TeamSpaceExporter {
+    private static final int CHUNK_SIZE = 500; // matches the fetch size of the export cursors
+
+    private final TeamSpaceJpaRepository teamSpaceJpaRepository;
+    private final TeamSpaceMemberJpaRepository memberJpaRepository;
+    private final FolderClosureJpaRepository folderClosureJpaRepository;
+    private final TeamSpaceDocumentJpaRepository documentJpaRepository;
+    private final TeamSpaceDocumentRepository documentRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter lineWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TeamSpaceExportSigner signer;
+
+    public TeamSpaceExporter(TeamSpaceJpaRepository teamSpaceJpaRepository,
+                             TeamSpaceMemberJpaRepository memberJpaRepository,
+                             FolderClosureJpaRepository folderClosureJpaRepository,
+                             TeamSpaceDocumentJpaRepository documentJpaRepository,
+                             TeamSpaceDocumentRepository documentRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             TeamSpaceExportSigner signer) {
+        this.teamSpaceJpaRepository = teamSpaceJpaRepository;
+        this.memberJpaRepository = memberJpaRepository;
+        this.folderClosureJpaRepository = folderClosureJpaRepository;
+        this.documentJpaRepository = documentJpaRepository;
+        this.documentRepository = documentRepository;
+        this.entityManager = entityManager;
+        this.lineWriter = objectMapper.writerFor(TeamSpaceExportRecord.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.signer = signer;
+    }
+
+    // Runs on the response thread, outside of the request transaction
+    public void export(Long teamSpaceId, OutputStream outputStream) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    write(teamSpaceId, outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(Long teamSpaceId, OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+        Mac mac = signer.newMac();
+        TeamSpaceEntity teamSpace = teamSpaceJpaRepository.findById(teamSpaceId)
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        writeLine(out, mac, new TeamSpaceExportRecord.TeamSpaceLine(TeamSpaceExportRecord.FORMAT_VERSION, teamSpace.getId(),
+                teamSpace.getName(), teamSpace.getDescription(), teamSpace.getCreatedAt()));
+        entityManager.clear();
+
+        long members = 0;
+        try (Stream<TeamSpaceMemberEntity> stream = memberJpaRepository.streamByTeamSpaceId(teamSpaceId)) {
+            Iterator<TeamSpaceMemberEntity> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TeamSpaceMemberEntity member = iterator.next();
+                writeLine(out, mac, new TeamSpaceExportRecord.MemberLine(member.getUserIgg(), member.getRole(),
+                        member.getJoinedAt()));
+                if (++members % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        entityManager.clear();
+
+        long folders = 0;
+        try (Stream<FolderHierarchyNodeView> stream = folderClosureJpaRepository.streamTreeByTeamSpaceId(teamSpaceId)) {
+            Iterator<FolderHierarchyNodeView> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                FolderHierarchyNodeView node = iterator.next();
+                FolderEntity folder = node.getFolder();
+                writeLine(out, mac, new TeamSpaceExportRecord.FolderLine(folder.getId(), node.getParentId(), folder.getName(),
+                        folder.getDescription(), folder.isCollaborative(), folder.getCreatedAt()));
+                if (++folders % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        entityManager.clear();
+
+        long documents = 0;
+        try (Stream<Long> stream = documentJpaRepository.streamIdsByTeamSpaceId(teamSpaceId)) {
+            Iterator<Long> iterator = stream.iterator();
+            List<Long> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    documents += writeDocuments(out, mac, chunk);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        // The end line is not part of what it signs
+        out.write(lineWriter.writeValueAsBytes(new TeamSpaceExportRecord.EndLine(members, folders, documents, signer.sign(mac))));
+        out.write('\n');
+        out.flush();
+        log.info("Exported team space {}: {} members, {} folders, {} documents", teamSpaceId, members, folders, documents);
+    }
+
+    private int writeDocuments(OutputStream out, Mac mac, List<Long> ids) throws IOException {
+        // Tags and metadata come with the chunk, in one query
+        List<Document> documents = new ArrayList<>(documentRepository.findAllByIds(ids));
+        documents.sort(Comparator.comparing(Document::getId));
+        for (Document document : documents) {
+            writeLine(out, mac, new TeamSpaceExportRecord.DocumentLine(document.getId(), document.getFolder().getId(),
+                    document.getName(), document.getDescription(), document.getVersion(), document.getFileType(),
+                    document.getFileSize(), document.getContentHash(), document.getStatus(),
+                    document.getTags(), document.getMetadata()));
+        }
+        return documents.size();
+    }
+
+    private void writeLine(OutputStream out, Mac mac, TeamSpaceExportRecord line) throws IOException {
+        byte[] bytes = lineWriter.writeValueAsBytes(line);
+        mac.update(bytes);
+        mac.update((byte) '\n');
+        out.write(bytes);
+        out.write('\n');
+    }
+}
@@ -0,0 +1,26 @@
+@Repository
+public interface TeamSpaceFolderJpaRepository extends JpaRepository<FolderEntity, Long> {
+    long countByTeamSpace_Id(Long teamSpaceId);
+
+    @Query("SELECT f.id FROM FolderEntity f WHERE f.parent.id IN :parentIds")
+    List<Long> findChildIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // Keyset pagination on (created_at, id), backed by idx_folders_team_space_keyset.
+    // Folders without created_at come last, the index order for an ascending column
+    @Query("SELECT f FROM FolderEntity f WHERE f.teamSpace.id = :teamSpaceId ORDER BY f.createdAt NULLS LAST, f.id")
+    List<FolderEntity> findFirstPage(@Param("teamSpaceId") Long teamSpaceId, Pageable pageable);
+
+    @Query("SELECT f FROM FolderEntity f WHERE f.teamSpace.id = :teamSpaceId"
+            + " AND (f.createdAt > :createdAt OR (f.createdAt = :createdAt AND f.id > :id) OR f.createdAt IS NULL)"
+            + " ORDER BY f.createdAt NULLS LAST, f.id")
+    List<FolderEntity> findPageAfter(@Param("teamSpaceId") Long teamSpaceId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Query("SELECT f FROM FolderEntity f WHERE f.teamSpace.id = :teamSpaceId"
+            + " AND f.createdAt IS NULL AND f.id > :id ORDER BY f.id")
+    List<FolderEntity> findPageAfterNullCreatedAt(@Param("teamSpaceId") Long teamSpaceId,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+}
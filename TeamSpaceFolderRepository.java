@@ -0,0 +1,6 @@
+public interface TeamSpaceFolderRepository {
+    List<Folder> findPage(Long teamSpaceId, KeysetCursor after, int size);
+    long countByTeamSpaceId(Long teamSpaceId);
+    List<Long> findSubtreeIds(Long rootFolderId);
+    List<Long> insertAll(Long teamSpaceId, List<Folder> folders);
+}
@@ -0,0 +1,82 @@
+@Component
+@RequiredArgsConstructor
+public class TeamSpaceFolderRepositoryImpl implements TeamSpaceFolderRepository {
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    private final TeamSpaceFolderJpaRepository teamSpaceFolderJpaRepository;
+    private final FolderMapper folderMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Folder> findPage(Long teamSpaceId, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        List<FolderEntity> entities;
+        if (after == null) {
+            entities = teamSpaceFolderJpaRepository.findFirstPage(teamSpaceId, limit);
+        } else if (after.hasNullSortKey()) {
+            entities = teamSpaceFolderJpaRepository.findPageAfterNullCreatedAt(teamSpaceId, after.getId(), limit);
+        } else {
+            entities = teamSpaceFolderJpaRepository.findPageAfter(teamSpaceId, after.sortKeyAsDateTime(), after.getId(), limit);
+        }
+        return entities.stream()
+                .map(folderMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countByTeamSpaceId(Long teamSpaceId) {
+        return teamSpaceFolderJpaRepository.countByTeamSpace_Id(teamSpaceId);
+    }
+
+    @Override
+    public List<Long> findSubtreeIds(Long rootFolderId) {
+        // Breadth-first walk, one query per level of the tree
+        List<Long> subtree = new ArrayList<>();
+        subtree.add(rootFolderId);
+        List<Long> level = List.of(rootFolderId);
+        while (!level.isEmpty()) {
+            List<Long> children = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += IN_CLAUSE_SIZE) {
+                children.addAll(teamSpaceFolderJpaRepository.findChildIds(
+                        level.subList(from, Math.min(from + IN_CLAUSE_SIZE, level.size()))));
+            }
+            subtree.addAll(children);
+            level = children;
+        }
+        return subtree;
+    }
+
+    // Parents must precede their children in the list: a parent is either one of the folders before it,
+    // or an already saved folder known by its id. Returns the generated ids, in the order of the folders.
+    // The folder closure is left to the caller.
+    @Override
+    public List<Long> insertAll(Long teamSpaceId, List<Folder> folders) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            TeamSpaceEntity teamSpace = entityManager.getReference(TeamSpaceEntity.class, teamSpaceId);
+            Map<Folder, FolderEntity> inserted = new IdentityHashMap<>();
+            List<Long> ids = new ArrayList<>(folders.size());
+            for (Folder folder : folders) {
+                FolderEntity entity = folderMapper.toEntity(folder);
+                entity.setTeamSpace(teamSpace);
+                Folder parent = folder.getParent();
+                entity.setParent(parent == null ? null
+                        : inserted.containsKey(parent) ? inserted.get(parent)
+                        : entityManager.getReference(FolderEntity.class, parent.getId()));
+                entityManager.persist(entity);
+                inserted.put(folder, entity);
+                ids.add(entity.getId());
+                if (ids.size() % INSERT_BATCH_SIZE == 0) {
+                    entityManager.flush();
+                }
+            }
+            entityManager.flush();
+            return ids;
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
@@ -1,5 +1,70 @@
 @Repository
 public interface TeamSpaceJpaRepository extends JpaRepository<TeamSpaceEntity, Long> {
-    List<TeamSpaceEntity> findByMembers_User_Igg(String igg);
+    String MEMBER_LISTING = "SELECT t.id AS id, t.name AS name, t.description AS description, t.status AS status,"
+            + " m.role AS myRole,"
+            // Counters from team_space_stats; the member count falls back to counting rows while a row is missing
+            + " COALESCE(s.memberCount, (SELECT COUNT(c) FROM TeamSpaceMemberEntity c WHERE c.teamSpace = t)) AS memberCount,"
+            + " s.folderCount AS folderCount,"
+            + " t.createdAt AS createdAt, t.updatedAt AS updatedAt"
+            + " FROM TeamSpaceMemberEntity m JOIN m.teamSpace t LEFT JOIN TeamSpaceStatsEntity s ON s.teamSpaceId = t.id"
+            + " WHERE m.userIgg = :userIgg AND t.status = :status";
+
+    List<TeamSpaceEntity> findByMembers_UserIgg(String igg);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TeamSpaceCacheConfig.TEAM_SPACE_QUERIES)})
     boolean existsByNameAndStatus(String name, TeamSpaceStatus status);
-}
\ No newline at end of file
+
+    // Literal status so that the planner can always use the partial index idx_team_spaces_active_name
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TeamSpaceCacheConfig.TEAM_SPACE_QUERIES)})
+    @Query("SELECT COUNT(t) > 0 FROM TeamSpaceEntity t WHERE t.name = :name AND t.status = TeamSpaceStatus.ACTIVE")
+    boolean existsActiveByName(@Param("name") String name);
+
+    // FOR SHARE: writes into the team space hold it until they commit, archiving and tiering update the row and wait for them
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM TeamSpaceEntity t WHERE t.id = :id")
+    Optional<TeamSpaceEntity> findByIdForShare(@Param("id") Long id);
+
+    // FOR UPDATE: serializes the changes that must see each other's effects, such as folder moves
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TeamSpaceEntity t WHERE t.id = :id")
+    Optional<TeamSpaceEntity> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TeamSpaceEntity t SET t.status = :status, t.archivedAt = :archivedAt, t.updatedAt = CURRENT_TIMESTAMP,"
+            + " t.version = t.version + 1 WHERE t.id = :id AND t.status = :expectedStatus")
+    int updateStatus(@Param("id") Long id,
+                     @Param("expectedStatus") TeamSpaceStatus expectedStatus,
+                     @Param("status") TeamSpaceStatus status,
+                     @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("SELECT t.id FROM TeamSpaceEntity t WHERE t.status = TeamSpaceStatus.ARCHIVED"
+            + " AND t.tieredAt IS NULL AND t.archivedAt < :threshold ORDER BY t.archivedAt")
+    List<Long> findIdsToTier(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // Keyset pagination on (name, id) for the "my team spaces" listing,
+    // backed by idx_team_space_members_user_team_space and idx_team_spaces_status_name
+    @Query(MEMBER_LISTING + " ORDER BY t.name ASC, t.id ASC")
+    List<TeamSpaceListingView> findListingByMember(@Param("userIgg") String userIgg,
+                                                   @Param("status") TeamSpaceStatus status,
+                                                   Pageable pageable);
+
+    @Query(MEMBER_LISTING + " AND (t.name > :name OR (t.name = :name AND t.id > :id)) ORDER BY t.name ASC, t.id ASC")
+    List<TeamSpaceListingView> findListingByMemberAfter(@Param("userIgg") String userIgg,
+                                                        @Param("status") TeamSpaceStatus status,
+                                                        @Param("name") String name,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    @Query(MEMBER_LISTING + " ORDER BY t.name DESC, t.id DESC")
+    List<TeamSpaceListingView> findListingByMemberDesc(@Param("userIgg") String userIgg,
+                                                       @Param("status") TeamSpaceStatus status,
+                                                       Pageable pageable);
+
+    @Query(MEMBER_LISTING + " AND (t.name < :name OR (t.name = :name AND t.id < :id)) ORDER BY t.name DESC, t.id DESC")
+    List<TeamSpaceListingView> findListingByMemberDescAfter(@Param("userIgg") String userIgg,
+                                                            @Param("status") TeamSpaceStatus status,
+                                                            @Param("name") String name,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+}
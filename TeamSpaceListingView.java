@@ -0,0 +1,13 @@
+// Lightweight read model of a team space as seen by one of its members
+public interface TeamSpaceListingView {
+    Long getId();
+    String getName();
+    String getDescription();
+    TeamSpaceStatus getStatus();
+    TeamSpaceRole getMyRole();
+    Long getMemberCount();
+    // Null until the team space has a team_space_stats row
+    Long getFolderCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -22,6 +22,48 @@ public class TeamSpaceMapper {
                 .build();
     }
 
+    public TeamSpaceSummaryDTO toSummaryDTO(TeamSpace domain, long memberCount, long folderCount) {
+        if (domain == null) return null;
+        return TeamSpaceSummaryDTO.builder()
+                .id(domain.getId())
+                .name(domain.getName())
+                .description(domain.getDescription())
+                .status(domain.getStatus().name())
+                .memberCount(memberCount)
+                .folderCount(folderCount)
+                .createdAt(domain.getCreatedAt())
+                .updatedAt(domain.getUpdatedAt())
+                .build();
+    }
+
+    public TeamSpaceSummaryDTO toSummaryDTO(TeamSpaceListingView view) {
+        if (view == null) return null;
+        return TeamSpaceSummaryDTO.builder()
+                .id(view.getId())
+                .name(view.getName())
+                .description(view.getDescription())
+                .status(view.getStatus().name())
+                .myRole(view.getMyRole())
+                .memberCount(view.getMemberCount())
+                .folderCount(view.getFolderCount())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
+    public TeamSpaceStatsDTO toStatsDTO(TeamSpaceStatsEntity stats) {
+        if (stats == null) return null;
+        return TeamSpaceStatsDTO.builder()
+                .teamSpaceId(stats.getTeamSpaceId())
+                .memberCount(stats.getMemberCount())
+                .ownerCount(stats.getOwnerCount())
+                .adminCount(stats.getAdminCount())
+                .folderCount(stats.getFolderCount())
+                .sharedDocumentCount(stats.getSharedDocumentCount())
+                .lastActivityAt(stats.getLastActivityAt())
+                .build();
+    }
+
     public TeamSpaceEntity toEntity(TeamSpace domain) {
         if (domain == null) return null;
         return TeamSpaceEntity.builder()
@@ -37,6 +79,9 @@ public class TeamSpaceMapper {
                         .collect(Collectors.toSet()))
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .archivedAt(domain.getArchivedAt())
+                .tieredAt(domain.getTieredAt())
+                .version(domain.getVersion())
                 .build();
     }
 
@@ -47,14 +92,18 @@ public class TeamSpaceMapper {
                 .name(entity.getName())
                 .description(entity.getDescription())
                 .status(entity.getStatus())
-                .members(entity.getMembers().stream()
+                // Collections stay unloaded until something actually reads them
+                .members(new LazySet<>(() -> entity.getMembers().stream()
                         .map(memberMapper::toDomain)
-                        .collect(Collectors.toSet()))
-                .folders(entity.getFolders().stream()
+                        .collect(Collectors.toCollection(HashSet::new))))
+                .folders(new LazySet<>(() -> entity.getFolders().stream()
                         .map(folderMapper::toDomain)
-                        .collect(Collectors.toSet()))
+                        .collect(Collectors.toCollection(HashSet::new))))
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .archivedAt(entity.getArchivedAt())
+                .tieredAt(entity.getTieredAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
\ No newline at end of file
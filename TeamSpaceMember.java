@@ -9,4 +9,5 @@ public class TeamSpaceMember {
     private String userIgg;
     private TeamSpaceRole role;
     private LocalDateTime joinedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TeamSpaceMemberAddedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private String memberIgg;
+    private TeamSpaceRole role;
+    private String addedBy;
+    private LocalDateTime occurredAt;
+}
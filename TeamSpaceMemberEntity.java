@@ -1,13 +1,16 @@
 @Entity
 @Table(name = "team_space_members")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TeamSpaceCacheConfig.TEAM_SPACE_MEMBERS)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class TeamSpaceMemberEntity {
+    // Pooled sequence rather than IDENTITY, which disables JDBC insert batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_space_members_seq")
+    @SequenceGenerator(name = "team_space_members_seq", sequenceName = "team_space_members_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,6 +27,10 @@ public class TeamSpaceMemberEntity {
     @Column(name = "joined_at")
     private LocalDateTime joinedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         joinedAt = LocalDateTime.now();
@@ -3,4 +3,52 @@ public interface TeamSpaceMemberJpaRepository extends JpaRepository<TeamSpaceMem
     Optional<TeamSpaceMemberEntity> findByTeamSpace_IdAndUserIgg(Long teamSpaceId, String userIgg);
     List<TeamSpaceMemberEntity> findByUserIgg(String userIgg);
     void deleteByTeamSpace_IdAndUserIgg(Long teamSpaceId, String userIgg);
-}
\ No newline at end of file
+    long countByTeamSpace_Id(Long teamSpaceId);
+
+    // Export cursor: forward-only, read-only, and kept out of the second-level cache
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT m FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId ORDER BY m.id")
+    Stream<TeamSpaceMemberEntity> streamByTeamSpaceId(@Param("teamSpaceId") Long teamSpaceId);
+
+    // Authorization lookup: reads only the role column through uk_team_space_member (team_space_id, user_igg).
+    // Deliberately not in the query cache: its invalidation is local to a node, a reload of TeamSpaceRoleCache after
+    // a membership change broadcast by another node must read the database
+    @Query("SELECT m.role FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId AND m.userIgg = :userIgg")
+    Optional<TeamSpaceRole> findRoleByTeamSpaceIdAndUserIgg(@Param("teamSpaceId") Long teamSpaceId,
+                                                           @Param("userIgg") String userIgg);
+
+    @Query("SELECT m.userIgg FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId AND m.userIgg IN :userIggs")
+    Set<String> findExistingUserIggs(@Param("teamSpaceId") Long teamSpaceId, @Param("userIggs") Collection<String> userIggs);
+
+    // Single-row mutations, checked against the member version instead of merging the whole aggregate.
+    // Bulk JPQL bypasses @Version handling, hence the explicit increment.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TeamSpaceMemberEntity m SET m.role = :role, m.version = m.version + 1"
+            + " WHERE m.id = :id AND m.version = :version")
+    int updateRole(@Param("id") Long id, @Param("version") Long version, @Param("role") TeamSpaceRole role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TeamSpaceMemberEntity m WHERE m.id = :id AND m.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+
+    // Keyset pagination on (joined_at, id), backed by idx_team_space_members_keyset.
+    // Members without joined_at come last, the index order for an ascending column
+    @Query("SELECT m FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId ORDER BY m.joinedAt NULLS LAST, m.id")
+    List<TeamSpaceMemberEntity> findFirstPage(@Param("teamSpaceId") Long teamSpaceId, Pageable pageable);
+
+    @Query("SELECT m FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId"
+            + " AND (m.joinedAt > :joinedAt OR (m.joinedAt = :joinedAt AND m.id > :id) OR m.joinedAt IS NULL)"
+            + " ORDER BY m.joinedAt NULLS LAST, m.id")
+    List<TeamSpaceMemberEntity> findPageAfter(@Param("teamSpaceId") Long teamSpaceId,
+                                              @Param("joinedAt") LocalDateTime joinedAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("SELECT m FROM TeamSpaceMemberEntity m WHERE m.teamSpace.id = :teamSpaceId"
+            + " AND m.joinedAt IS NULL AND m.id > :id ORDER BY m.id")
+    List<TeamSpaceMemberEntity> findPageAfterNullJoinedAt(@Param("teamSpaceId") Long teamSpaceId,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+}
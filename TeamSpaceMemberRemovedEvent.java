@@ -0,0 +1,12 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TeamSpaceMemberRemovedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private String memberIgg;
+    // Null in the events recorded before the role was added to the payload
+    private TeamSpaceRole role;
+    private String removedBy;
+    private LocalDateTime occurredAt;
+}
@@ -1,6 +1,13 @@
 public interface TeamSpaceMemberRepository {
     TeamSpaceMember save(TeamSpaceMember member);
+    List<TeamSpaceMember> saveAll(Long teamSpaceId, List<TeamSpaceMember> members);
+    Set<String> findExistingUserIggs(Long teamSpaceId, Collection<String> userIggs);
     Optional<TeamSpaceMember> findByTeamSpaceIdAndUserIgg(Long teamSpaceId, String userIgg);
+    Optional<TeamSpaceRole> findRole(Long teamSpaceId, String userIgg);
     List<TeamSpaceMember> findByUserIgg(String userIgg);
+    List<TeamSpaceMember> findPage(Long teamSpaceId, KeysetCursor after, int size);
+    long countByTeamSpaceId(Long teamSpaceId);
+    TeamSpaceMember updateRole(TeamSpaceMember member, TeamSpaceRole newRole);
+    void delete(TeamSpaceMember member);
     void deleteByTeamSpaceIdAndUserIgg(Long teamSpaceId, String userIgg);
-}
\ No newline at end of file
+}
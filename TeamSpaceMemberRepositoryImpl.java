@@ -1,8 +1,11 @@
 @Component
 @RequiredArgsConstructor
 public class TeamSpaceMemberRepositoryImpl implements TeamSpaceMemberRepository {
+    private static final int INSERT_BATCH_SIZE = 50; // matches the team_space_members_seq allocation size
+
     private final TeamSpaceMemberJpaRepository teamSpaceMemberJpaRepository;
     private final TeamSpaceMemberMapper memberMapper;
+    private final EntityManager entityManager;
 
     @Override
     public TeamSpaceMember save(TeamSpaceMember member) {
@@ -10,12 +13,51 @@ public class TeamSpaceMemberRepositoryImpl implements TeamSpaceMemberRepository
         return memberMapper.toDomain(teamSpaceMemberJpaRepository.save(entity));
     }
 
+    @Override
+    public List<TeamSpaceMember> saveAll(Long teamSpaceId, List<TeamSpaceMember> members) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            TeamSpaceEntity teamSpace = entityManager.getReference(TeamSpaceEntity.class, teamSpaceId);
+            List<TeamSpaceMemberEntity> entities = new ArrayList<>(members.size());
+            for (TeamSpaceMember member : members) {
+                TeamSpaceMemberEntity entity = memberMapper.toEntity(member);
+                entity.setTeamSpace(teamSpace);
+                entityManager.persist(entity);
+                entities.add(entity);
+                if (entities.size() % INSERT_BATCH_SIZE == 0) {
+                    entityManager.flush();
+                }
+            }
+            entityManager.flush();
+            return entities.stream()
+                    .map(memberMapper::toDomain)
+                    .collect(Collectors.toList());
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    @Override
+    public Set<String> findExistingUserIggs(Long teamSpaceId, Collection<String> userIggs) {
+        if (userIggs.isEmpty()) {
+            return Set.of();
+        }
+        return teamSpaceMemberJpaRepository.findExistingUserIggs(teamSpaceId, userIggs);
+    }
+
     @Override
     public Optional<TeamSpaceMember> findByTeamSpaceIdAndUserIgg(Long teamSpaceId, String userIgg) {
         return teamSpaceMemberJpaRepository.findByTeamSpace_IdAndUserIgg(teamSpaceId, userIgg)
                 .map(memberMapper::toDomain);
     }
 
+    @Override
+    public Optional<TeamSpaceRole> findRole(Long teamSpaceId, String userIgg) {
+        return teamSpaceMemberJpaRepository.findRoleByTeamSpaceIdAndUserIgg(teamSpaceId, userIgg);
+    }
+
     @Override
     public List<TeamSpaceMember> findByUserIgg(String userIgg) {
         return teamSpaceMemberJpaRepository.findByUserIgg(userIgg).stream()
@@ -23,6 +65,44 @@ public class TeamSpaceMemberRepositoryImpl implements TeamSpaceMemberRepository
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TeamSpaceMember> findPage(Long teamSpaceId, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        List<TeamSpaceMemberEntity> entities;
+        if (after == null) {
+            entities = teamSpaceMemberJpaRepository.findFirstPage(teamSpaceId, limit);
+        } else if (after.hasNullSortKey()) {
+            entities = teamSpaceMemberJpaRepository.findPageAfterNullJoinedAt(teamSpaceId, after.getId(), limit);
+        } else {
+            entities = teamSpaceMemberJpaRepository.findPageAfter(teamSpaceId, after.sortKeyAsDateTime(), after.getId(), limit);
+        }
+        return entities.stream()
+                .map(memberMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countByTeamSpaceId(Long teamSpaceId) {
+        return teamSpaceMemberJpaRepository.countByTeamSpace_Id(teamSpaceId);
+    }
+
+    @Override
+    public TeamSpaceMember updateRole(TeamSpaceMember member, TeamSpaceRole newRole) {
+        if (teamSpaceMemberJpaRepository.updateRole(member.getId(), member.getVersion(), newRole) == 0) {
+            throw new ObjectOptimisticLockingFailureException(TeamSpaceMemberEntity.class, member.getId());
+        }
+        member.setRole(newRole);
+        member.setVersion(member.getVersion() + 1);
+        return member;
+    }
+
+    @Override
+    public void delete(TeamSpaceMember member) {
+        if (teamSpaceMemberJpaRepository.deleteByIdAndVersion(member.getId(), member.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(TeamSpaceMemberEntity.class, member.getId());
+        }
+    }
+
     @Override
     public void deleteByTeamSpaceIdAndUserIgg(Long teamSpaceId, String userIgg) {
         teamSpaceMemberJpaRepository.deleteByTeamSpace_IdAndUserIgg(teamSpaceId, userIgg);
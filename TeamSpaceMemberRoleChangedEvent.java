@@ -0,0 +1,12 @@
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TeamSpaceMemberRoleChangedEvent implements TeamSpaceDomainEvent {
+    private Long teamSpaceId;
+    private String memberIgg;
+    private TeamSpaceRole previousRole;
+    private TeamSpaceRole newRole;
+    private String changedBy;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,7 @@
+@Getter
+@AllArgsConstructor
+@ToString
+public class TeamSpaceMembershipChangedEvent {
+    private final Long teamSpaceId;
+    private final String userIgg;
+}
@@ -0,0 +1,76 @@
+// Appends team space events to the outbox table in the caller's transaction: the events are committed
+// or rolled back together with the change they describe, TeamSpaceOutboxDispatcher delivers them afterwards.
+// The team_space_stats counters are applied in the same transaction rather than by a subscriber:
+// delivery is at least once, and a replayed event would count twice.
+@Component
+@RequiredArgsConstructor
+public class TeamSpaceOutbox {
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final Map<String, Class<? extends TeamSpaceDomainEvent>> EVENT_TYPES = Stream.of(
+                    TeamSpaceCreatedEvent.class,
+                    TeamSpaceMemberAddedEvent.class,
+                    TeamSpaceMemberRemovedEvent.class,
+                    TeamSpaceMemberRoleChangedEvent.class,
+                    CollaborativeFolderCreatedEvent.class,
+                    DocumentSharedEvent.class)
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TeamSpaceStatsUpdater statsUpdater;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(TeamSpaceDomainEvent event) {
+        appendAll(List.of(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<? extends TeamSpaceDomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (TeamSpaceDomainEvent event : events) {
+                entityManager.persist(TeamSpaceOutboxEventEntity.builder()
+                        .eventType(event.getClass().getSimpleName())
+                        .teamSpaceId(event.getTeamSpaceId())
+                        .payload(write(event))
+                        .createdAt(now)
+                        .availableAt(now)
+                        .attempts(0)
+                        .build());
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+        statsUpdater.apply(events);
+    }
+
+    public TeamSpaceDomainEvent read(TeamSpaceOutboxEventEntity entity) {
+        Class<? extends TeamSpaceDomainEvent> type = EVENT_TYPES.get(entity.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown team space event type " + entity.getEventType());
+        }
+        try {
+            return objectMapper.readValue(entity.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable team space event " + entity.getId(), e);
+        }
+    }
+
+    private String write(TeamSpaceDomainEvent event) {
+        if (!EVENT_TYPES.containsKey(event.getClass().getSimpleName())) {
+            throw new IllegalArgumentException("Unregistered team space event type " + event.getClass().getName());
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Team space event cannot be serialized", e);
+        }
+    }
+}
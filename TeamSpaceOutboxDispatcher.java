@@ -0,0 +1,179 @@
+// Polls the outbox and delivers the committed events to the subscribers, batch by batch.
+// A batch stays locked until its delivery is recorded: an instance crashing mid-batch leaves the rows
+// pending and they are delivered again, so delivery is at least once.
+@Component
+@Slf4j
+public class TeamSpaceOutboxDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final TeamSpaceOutboxJpaRepository outboxJpaRepository;
+    private final TeamSpaceOutbox outbox;
+    private final List<TeamSpaceEventSubscriber> subscribers;
+    private final TransactionTemplate batchTransaction;
+    // Savepoint per subscriber: a failing subscriber neither rolls back the others nor the delivery bookkeeping
+    private final TransactionTemplate subscriberTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter dispatchedEvents;
+    private final Counter failedEvents;
+    private final Timer batchTimer;
+    private final Timer deliveryDelay;
+
+    public TeamSpaceOutboxDispatcher(TeamSpaceOutboxJpaRepository outboxJpaRepository,
+                                     TeamSpaceOutbox outbox,
+                                     ObjectProvider<TeamSpaceEventSubscriber> subscribers,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${teamspace.outbox.batch-size:200}") int batchSize,
+                                     @Value("${teamspace.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                                     @Value("${teamspace.outbox.retry-backoff:PT5S}") Duration retryBackoff,
+                                     @Value("${teamspace.outbox.max-retry-backoff:PT15M}") Duration maxRetryBackoff,
+                                     @Value("${teamspace.outbox.retention:P7D}") Duration retention) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.outbox = outbox;
+        this.subscribers = subscribers.orderedStream().collect(Collectors.toList());
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.subscriberTransaction = new TransactionTemplate(transactionManager);
+        this.subscriberTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+        this.dispatchedEvents = meterRegistry.counter("teamspace.outbox.events", "result", "dispatched");
+        this.failedEvents = meterRegistry.counter("teamspace.outbox.events", "result", "failed");
+        this.batchTimer = Timer.builder("teamspace.outbox.batch")
+                .description("Time to deliver one outbox batch to every subscriber")
+                .register(meterRegistry);
+        this.deliveryDelay = Timer.builder("teamspace.outbox.delivery.delay")
+                .description("Time between an event being committed and being delivered")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("teamspace.outbox.pending", pendingEvents, AtomicLong::get).register(meterRegistry);
+        TimeGauge.builder("teamspace.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest event not delivered yet")
+                .register(meterRegistry);
+        log.info("Team space outbox dispatcher started with subscribers {}",
+                this.subscribers.stream().map(TeamSpaceEventSubscriber::getName).collect(Collectors.toList()));
+    }
+
+    @Scheduled(fixedDelayString = "${teamspace.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        int batches = 0;
+        int claimed;
+        do {
+            claimed = batchTransaction.execute(status -> dispatchBatch());
+            batches++;
+        } while (claimed == batchSize && batches < maxBatchesPerRun);
+        refreshBacklog();
+    }
+
+    @Scheduled(fixedDelayString = "${teamspace.outbox.cleanup-interval:PT1H}")
+    public void purgeDispatched() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = batchTransaction.execute(status ->
+                    outboxJpaRepository.deleteDispatchedBefore(threshold, PURGE_BATCH_SIZE));
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (purged > 0) {
+            log.info("Purged {} dispatched outbox events older than {}", purged, threshold);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<TeamSpaceOutboxEventEntity> rows = outboxJpaRepository.lockPending(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start();
+
+        Map<Long, TeamSpaceDomainEvent> events = new LinkedHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (TeamSpaceOutboxEventEntity row : rows) {
+            try {
+                events.put(row.getId(), outbox.read(row));
+            } catch (IllegalStateException e) {
+                failures.put(row.getId(), e.getMessage());
+            }
+        }
+        for (TeamSpaceEventSubscriber subscriber : subscribers) {
+            deliver(subscriber, events, failures);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dispatched = new ArrayList<>(rows.size());
+        for (TeamSpaceOutboxEventEntity row : rows) {
+            String error = failures.get(row.getId());
+            if (error == null) {
+                dispatched.add(row.getId());
+                deliveryDelay.record(Duration.between(row.getCreatedAt(), now));
+            } else {
+                outboxJpaRepository.markFailed(row.getId(), truncate(error), now.plus(backoff(row.getAttempts())));
+                log.warn("Outbox event {} ({}) failed delivery attempt {}: {}",
+                        row.getId(), row.getEventType(), row.getAttempts() + 1, error);
+            }
+        }
+        if (!dispatched.isEmpty()) {
+            outboxJpaRepository.markDispatched(dispatched, now);
+        }
+        dispatchedEvents.increment(dispatched.size());
+        failedEvents.increment(rows.size() - dispatched.size());
+        sample.stop(batchTimer);
+        return rows.size();
+    }
+
+    private void deliver(TeamSpaceEventSubscriber subscriber, Map<Long, TeamSpaceDomainEvent> events, Map<Long, String> failures) {
+        List<TeamSpaceDomainEvent> batch = events.entrySet().stream()
+                .filter(entry -> !failures.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            subscriberTransaction.executeWithoutResult(status -> subscriber.onEvents(batch));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Subscriber {} failed on a batch of {} events, delivering them one by one",
+                    subscriber.getName(), batch.size(), e);
+        }
+        // Isolate the failing events so that the rest of the batch still goes through
+        events.forEach((id, event) -> {
+            if (failures.containsKey(id)) {
+                return;
+            }
+            try {
+                subscriberTransaction.executeWithoutResult(status -> subscriber.onEvents(List.of(event)));
+            } catch (RuntimeException e) {
+                failures.put(id, subscriber.getName() + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private void refreshBacklog() {
+        LocalDateTime oldest = outboxJpaRepository.findOldestPendingCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        pendingEvents.set(oldest == null ? 0 : outboxJpaRepository.countPending());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,39 @@
+@Entity
+@Table(name = "team_space_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamSpaceOutboxEventEntity {
+    // Pooled sequence rather than IDENTITY, which disables JDBC insert batching
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_space_outbox_seq")
+    @SequenceGenerator(name = "team_space_outbox_seq", sequenceName = "team_space_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "team_space_id", nullable = false)
+    private Long teamSpaceId;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Pushed back after a failed delivery
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,30 @@
+@Repository
+public interface TeamSpaceOutboxJpaRepository extends JpaRepository<TeamSpaceOutboxEventEntity, Long> {
+
+    // FOR UPDATE SKIP LOCKED: concurrent dispatchers (one per instance) claim disjoint batches instead of waiting on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM TeamSpaceOutboxEventEntity e WHERE e.dispatchedAt IS NULL AND e.availableAt <= :now ORDER BY e.id")
+    List<TeamSpaceOutboxEventEntity> lockPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE TeamSpaceOutboxEventEntity e SET e.dispatchedAt = :now WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TeamSpaceOutboxEventEntity e SET e.attempts = e.attempts + 1, e.lastError = :error, e.availableAt = :retryAt"
+            + " WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("retryAt") LocalDateTime retryAt);
+
+    @Query("SELECT MIN(e.createdAt) FROM TeamSpaceOutboxEventEntity e WHERE e.dispatchedAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Query("SELECT COUNT(e) FROM TeamSpaceOutboxEventEntity e WHERE e.dispatchedAt IS NULL")
+    long countPending();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_space_outbox"))
+    @Query(value = "DELETE FROM team_space_outbox WHERE id IN"
+            + " (SELECT id FROM team_space_outbox WHERE dispatched_at < :threshold LIMIT :limit)", nativeQuery = true)
+    int deleteDispatchedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+}
@@ -0,0 +1,47 @@
+@Component
+@RequiredArgsConstructor
+public class TeamSpacePermissionChecker {
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceRoleCache roleCache;
+
+    public TeamSpaceRole requireMember(Long teamSpaceId, String userIgg, String deniedMessage) {
+        return requireRole(teamSpaceId, userIgg, role -> true, deniedMessage);
+    }
+
+    public TeamSpaceRole requireAdmin(Long teamSpaceId, String userIgg, String deniedMessage) {
+        return requireRole(teamSpaceId, userIgg, TeamSpaceRole::isAdminOrOwner, deniedMessage);
+    }
+
+    public TeamSpaceRole requireOwner(Long teamSpaceId, String userIgg, String deniedMessage) {
+        return requireRole(teamSpaceId, userIgg, role -> role == TeamSpaceRole.OWNER, deniedMessage);
+    }
+
+    // Writes into a team space are refused once it is archived, its folders and documents may already be in the cold tier.
+    // Locks the team space row until the write commits: call it from the write transaction, not a read-only one
+    public void requireActive(Long teamSpaceId) {
+        TeamSpace teamSpace = teamSpaceRepository.findByIdForShare(teamSpaceId)
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        if (teamSpace.getStatus() != TeamSpaceStatus.ACTIVE || teamSpace.getTieredAt() != null) {
+            throw new IllegalStateException("Team space is archived");
+        }
+    }
+
+    public Optional<TeamSpaceRole> findRole(Long teamSpaceId, String userIgg) {
+        return roleCache.findRole(teamSpaceId, userIgg);
+    }
+
+    private TeamSpaceRole requireRole(Long teamSpaceId, String userIgg, Predicate<TeamSpaceRole> allowed, String deniedMessage) {
+        Optional<TeamSpaceRole> role = findRole(teamSpaceId, userIgg);
+        if (role.isEmpty()) {
+            // Only pay for the existence check on the failure path, to keep "not found" distinct from "denied"
+            if (!teamSpaceRepository.existsById(teamSpaceId)) {
+                throw new IllegalArgumentException("Team space not found");
+            }
+            throw new AccessDeniedException(deniedMessage);
+        }
+        if (!allowed.test(role.get())) {
+            throw new AccessDeniedException(deniedMessage);
+        }
+        return role.get();
+    }
+}
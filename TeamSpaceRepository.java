@@ -1,7 +1,15 @@
 public interface TeamSpaceRepository {
     TeamSpace save(TeamSpace teamSpace);
     Optional<TeamSpace> findById(Long id);
+    Optional<TeamSpace> findByIdForShare(Long id);
+    Optional<TeamSpace> findByIdForUpdate(Long id);
+    boolean existsById(Long id);
     List<TeamSpace> findByMemberIgg(String igg);
+    List<TeamSpaceListingView> findListingByMember(String igg, TeamSpaceStatus status, Sort.Direction direction,
+                                                   KeysetCursor after, int size);
     void deleteById(Long id);
     boolean existsByNameAndStatus(String name, TeamSpaceStatus status);
-}
\ No newline at end of file
+    boolean existsActiveByName(String name);
+    boolean updateStatus(Long id, TeamSpaceStatus expectedStatus, TeamSpaceStatus status, LocalDateTime archivedAt);
+    List<Long> findIdsToTier(LocalDateTime archivedBefore, int limit);
+}
@@ -16,13 +16,48 @@ public class TeamSpaceRepositoryImpl implements TeamSpaceRepository {
                 .map(teamSpaceMapper::toDomain);
     }
 
+    @Override
+    public Optional<TeamSpace> findByIdForShare(Long id) {
+        return teamSpaceJpaRepository.findByIdForShare(id)
+                .map(teamSpaceMapper::toDomain);
+    }
+
+    @Override
+    public Optional<TeamSpace> findByIdForUpdate(Long id) {
+        return teamSpaceJpaRepository.findByIdForUpdate(id)
+                .map(teamSpaceMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return teamSpaceJpaRepository.existsById(id);
+    }
+
     @Override
     public List<TeamSpace> findByMemberIgg(String igg) {
-        return teamSpaceJpaRepository.findByMembers_User_Igg(igg).stream()
+        return teamSpaceJpaRepository.findByMembers_UserIgg(igg).stream()
                 .map(teamSpaceMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TeamSpaceListingView> findListingByMember(String igg, TeamSpaceStatus status, Sort.Direction direction,
+                                                          KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        // Names are never null: a cursor without a sort key was not issued by this listing
+        if (after != null && after.hasNullSortKey()) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        if (direction == Sort.Direction.DESC) {
+            return after == null
+                    ? teamSpaceJpaRepository.findListingByMemberDesc(igg, status, limit)
+                    : teamSpaceJpaRepository.findListingByMemberDescAfter(igg, status, after.getSortKey(), after.getId(), limit);
+        }
+        return after == null
+                ? teamSpaceJpaRepository.findListingByMember(igg, status, limit)
+                : teamSpaceJpaRepository.findListingByMemberAfter(igg, status, after.getSortKey(), after.getId(), limit);
+    }
+
     @Override
     public void deleteById(Long id) {
         teamSpaceJpaRepository.deleteById(id);
@@ -32,4 +67,19 @@ public class TeamSpaceRepositoryImpl implements TeamSpaceRepository {
     public boolean existsByNameAndStatus(String name, TeamSpaceStatus status) {
         return teamSpaceJpaRepository.existsByNameAndStatus(name, status);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean existsActiveByName(String name) {
+        return teamSpaceJpaRepository.existsActiveByName(name);
+    }
+
+    @Override
+    public boolean updateStatus(Long id, TeamSpaceStatus expectedStatus, TeamSpaceStatus status, LocalDateTime archivedAt) {
+        return teamSpaceJpaRepository.updateStatus(id, expectedStatus, status, archivedAt) == 1;
+    }
+
+    @Override
+    public List<Long> findIdsToTier(LocalDateTime archivedBefore, int limit) {
+        return teamSpaceJpaRepository.findIdsToTier(archivedBefore, PageRequest.of(0, limit));
+    }
+}
@@ -1,5 +1,9 @@
 public enum TeamSpaceRole {
     OWNER,
     ADMIN,
-    MEMBER
-}
\ No newline at end of file
+    MEMBER;
+
+    public boolean isAdminOrOwner() {
+        return this == ADMIN || this == OWNER;
+    }
+}
@@ -0,0 +1,114 @@
+@Component
+@Slf4j
+public class TeamSpaceRoleCache {
+    private final TeamSpaceMemberRepository memberRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+    // Bumped on every invalidation so that a lookup racing with a membership change never caches a stale role
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private final Counter invalidations;
+
+    public TeamSpaceRoleCache(TeamSpaceMemberRepository memberRepository,
+                              MembershipChangeBroadcaster broadcaster,
+                              MeterRegistry meterRegistry,
+                              @Value("${teamspace.role-cache.ttl:PT5M}") Duration ttl,
+                              @Value("${teamspace.role-cache.max-size:50000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+        this.hits = meterRegistry.counter("teamspace.role.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("teamspace.role.cache.requests", "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("teamspace.role.cache.evictions", "cause", "size");
+        this.expirations = meterRegistry.counter("teamspace.role.cache.evictions", "cause", "expired");
+        this.invalidations = meterRegistry.counter("teamspace.role.cache.evictions", "cause", "invalidated");
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > TeamSpaceRoleCache.this.maxSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("teamspace.role.cache.size", this, TeamSpaceRoleCache::size).register(meterRegistry);
+        broadcaster.subscribe(this::onMembershipChanged);
+        log.info("Team space role cache initialized with ttl {} and max size {}", ttl, maxSize);
+    }
+
+    public Optional<TeamSpaceRole> findRole(Long teamSpaceId, String userIgg) {
+        Key key = new Key(teamSpaceId, userIgg);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.expiresAt() < 0) {
+                    hits.increment();
+                    return entry.role();
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+
+        long generationBeforeLoad = generation.get();
+        Optional<TeamSpaceRole> role = memberRepository.findRole(teamSpaceId, userIgg);
+        synchronized (entries) {
+            if (generation.get() == generationBeforeLoad) {
+                entries.put(key, new Entry(role, System.nanoTime() + ttlNanos));
+            }
+        }
+        return role;
+    }
+
+    public void evict(Long teamSpaceId, String userIgg) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (userIgg == null) {
+                evictTeamSpace(teamSpaceId);
+            } else if (entries.remove(new Key(teamSpaceId, userIgg)) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            invalidations.increment(entries.size());
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void onMembershipChanged(TeamSpaceMembershipChangedEvent event) {
+        log.debug("Evicting cached team space roles for {}", event);
+        evict(event.getTeamSpaceId(), event.getUserIgg());
+    }
+
+    private void evictTeamSpace(Long teamSpaceId) {
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().teamSpaceId().equals(teamSpaceId)) {
+                keys.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    private record Key(Long teamSpaceId, String userIgg) {
+    }
+
+    private record Entry(Optional<TeamSpaceRole> role, long expiresAt) {
+    }
+}
@@ -0,0 +1,10 @@
+@Component
+@RequiredArgsConstructor
+public class TeamSpaceRoleCacheInvalidator {
+    private final MembershipChangeBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(TeamSpaceMembershipChangedEvent event) {
+        broadcaster.broadcast(event);
+    }
+}
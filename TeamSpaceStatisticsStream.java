@@ -0,0 +1,280 @@
+// Live team space statistics over server-sent events. The totals are computed once per tick, whatever the number
+// of open dashboards, and only the values that changed are pushed. Each client has its own bounded queue, drained by
+// its own sender thread: a slow client only ever blocks itself. A client whose queue overflows, or whose current send
+// has not completed within send-timeout, is disconnected. Ticks are skipped while nobody is listening.
+@Component
+@Slf4j
+public class TeamSpaceStatisticsStream {
+    private final TeamSpaceStatsJpaRepository statsJpaRepository;
+    private final int queueSize;
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final long sendTimeoutNanos;
+    private final long rejectedRetryMillis;
+    // One permit per client, held until its sender thread is done with the connection
+    private final Semaphore subscriberPermits;
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    private final ExecutorService sendExecutor;
+    // Guarded by this
+    private Map<String, Long> snapshot;
+    private long version;
+    private final Counter computations;
+    private final Counter rejectedSubscribers;
+    private final Counter overflowDisconnects;
+    private final Counter slowDisconnects;
+
+    public TeamSpaceStatisticsStream(TeamSpaceStatsJpaRepository statsJpaRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${teamspace.statistics.stream.max-subscribers:500}") int maxSubscribers,
+                                     @Value("${teamspace.statistics.stream.queue-size:16}") int queueSize,
+                                     @Value("${teamspace.statistics.stream.timeout:PT30M}") Duration timeout,
+                                     @Value("${teamspace.statistics.stream.heartbeat:PT15S}") Duration heartbeat,
+                                     @Value("${teamspace.statistics.stream.send-timeout:PT30S}") Duration sendTimeout,
+                                     @Value("${teamspace.statistics.stream.rejected-retry:PT30S}") Duration rejectedRetry) {
+        this.statsJpaRepository = statsJpaRepository;
+        this.queueSize = queueSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatNanos = heartbeat.toNanos();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.rejectedRetryMillis = rejectedRetry.toMillis();
+        this.subscriberPermits = new Semaphore(maxSubscribers);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // At most one send in flight per client and one client per permit: the permits bound the number of threads,
+        // and a client blocked in a write holds only its own
+        this.sendExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "statistics-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.computations = meterRegistry.counter("teamspace.statistics.stream.computations");
+        this.rejectedSubscribers = meterRegistry.counter("teamspace.statistics.stream.disconnects", "cause", "rejected");
+        this.overflowDisconnects = meterRegistry.counter("teamspace.statistics.stream.disconnects", "cause", "overflow");
+        this.slowDisconnects = meterRegistry.counter("teamspace.statistics.stream.disconnects", "cause", "slow");
+        Gauge.builder("teamspace.statistics.stream.subscribers", clients, List::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.forEach(client -> client.close(null));
+        sendExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe() {
+        // Check and reservation in one step: concurrent subscribers cannot overshoot max-subscribers
+        if (!subscriberPermits.tryAcquire()) {
+            // A 503 would make EventSource give up for good: close the stream and tell it when to come back instead
+            rejectedSubscribers.increment();
+            SseEmitter rejected = new SseEmitter();
+            try {
+                rejected.send(SseEmitter.event().name("rejected").reconnectTime(rejectedRetryMillis).data("too many subscribers"));
+                rejected.complete();
+            } catch (IOException e) {
+                rejected.completeWithError(e);
+            }
+            return rejected;
+        }
+
+        Client client = new Client(new SseEmitter(timeoutMillis));
+        client.emitter.onCompletion(() -> client.close(null));
+        client.emitter.onTimeout(() -> client.close(null));
+        client.emitter.onError(e -> client.close(null));
+        // The snapshot is queued before the client is visible to the tick: no delta can overtake it
+        synchronized (this) {
+            if (snapshot == null) {
+                refresh();
+            }
+            client.offer(new Message("snapshot", snapshot, version));
+            clients.add(client);
+        }
+        log.debug("Statistics stream subscriber added, {} connected", clients.size());
+        return client.emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${teamspace.statistics.stream.tick:PT2S}")
+    public void tick() {
+        if (clients.isEmpty()) {
+            // Nobody listening: stop computing, the next subscriber triggers a fresh snapshot
+            synchronized (this) {
+                snapshot = null;
+            }
+            return;
+        }
+
+        Map<String, Long> changes;
+        long currentVersion;
+        synchronized (this) {
+            changes = refresh();
+            currentVersion = version;
+        }
+
+        long now = System.nanoTime();
+        Message delta = changes.isEmpty() ? null : new Message("delta", Collections.unmodifiableMap(changes), currentVersion);
+        for (Client client : clients) {
+            if (client.isStalled(now)) {
+                log.info("Disconnecting a statistics stream subscriber whose send took more than {}ms",
+                        sendTimeoutNanos / 1_000_000);
+                slowDisconnects.increment();
+                client.close(null);
+            } else if (delta != null) {
+                client.offer(delta);
+            } else if (client.isIdle(now)) {
+                client.offer(Message.HEARTBEAT);
+            }
+        }
+    }
+
+    // Recomputes the totals and returns the values that changed since the previous snapshot
+    private Map<String, Long> refresh() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        long members = 0;
+        long owners = 0;
+        long admins = 0;
+        long folders = 0;
+        long sharedDocuments = 0;
+        for (TeamSpaceStatsJpaRepository.TeamSpaceTotalsView row : statsJpaRepository.sumByStatus()) {
+            totals.put("teamSpaces." + row.getStatus().name().toLowerCase(), row.getTeamSpaces());
+            members += row.getMembers();
+            owners += row.getOwners();
+            admins += row.getAdmins();
+            folders += row.getFolders();
+            sharedDocuments += row.getSharedDocuments();
+        }
+        totals.put("members", members);
+        totals.put("owners", owners);
+        totals.put("admins", admins);
+        totals.put("folders", folders);
+        totals.put("sharedDocuments", sharedDocuments);
+        computations.increment();
+
+        Map<String, Long> changes = new LinkedHashMap<>();
+        totals.forEach((key, value) -> {
+            if (snapshot == null || !value.equals(snapshot.get(key))) {
+                changes.put(key, value);
+            }
+        });
+        // A status with no team space left disappears from the totals: publish it as zero
+        if (snapshot != null) {
+            snapshot.keySet().stream()
+                    .filter(key -> !totals.containsKey(key))
+                    .forEach(key -> {
+                        changes.put(key, 0L);
+                        totals.put(key, 0L);
+                    });
+        }
+        if (snapshot == null || !changes.isEmpty()) {
+            snapshot = Collections.unmodifiableMap(totals);
+            version++;
+        }
+        return changes;
+    }
+
+    // One queued event. The values are immutable and shared by every client.
+    private record Message(String name, Map<String, Long> values, long version) {
+        private static final Message HEARTBEAT = new Message(null, Map.of(), 0);
+    }
+
+    // One dashboard. Messages are sent in order, at most one send is in flight.
+    private class Client {
+        private final SseEmitter emitter;
+        // Guarded by this
+        private final Deque<Message> queue = new ArrayDeque<>();
+        private boolean sending;
+        private long sendingSince;
+        private long lastSentAt = System.nanoTime();
+        private boolean closed;
+        private boolean released;
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            synchronized (this) {
+                if (closed || (message == Message.HEARTBEAT && (sending || !queue.isEmpty()))) {
+                    return;
+                }
+                if (queue.size() < queueSize) {
+                    queue.add(message);
+                    if (sending) {
+                        return;
+                    }
+                    sending = true;
+                    sendingSince = System.nanoTime();
+                    sendExecutor.execute(this::drain);
+                    return;
+                }
+            }
+            // Queue full: the client cannot keep up with the ticks, drop it rather than skip a delta or buffer without bound
+            log.info("Disconnecting a statistics stream subscriber with {} messages pending", queueSize);
+            overflowDisconnects.increment();
+            close(null);
+        }
+
+        private void drain() {
+            while (true) {
+                Message message;
+                synchronized (this) {
+                    if (closed || queue.isEmpty()) {
+                        sending = false;
+                        releaseIfDone();
+                        return;
+                    }
+                    message = queue.poll();
+                    sendingSince = System.nanoTime();
+                }
+                try {
+                    if (message == Message.HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(message.version()))
+                                .name(message.name())
+                                .data(message.values(), MediaType.APPLICATION_JSON));
+                    }
+                    synchronized (this) {
+                        lastSentAt = System.nanoTime();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Client gone or emitter already completed
+                    log.debug("Statistics stream subscriber dropped: {}", e.getMessage());
+                    close(e);
+                }
+            }
+        }
+
+        // Idempotent. Completing the emitter does not interrupt a write already blocked on the socket: that one
+        // fails on the connector write timeout, and the permit stays held until it does.
+        private void close(Throwable cause) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                releaseIfDone();
+            }
+            clients.remove(this);
+            if (cause == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(cause);
+            }
+        }
+
+        // Guarded by this
+        private void releaseIfDone() {
+            if (closed && !sending && !released) {
+                released = true;
+                subscriberPermits.release();
+            }
+        }
+
+        private synchronized boolean isStalled(long now) {
+            return sending && now - sendingSince > sendTimeoutNanos;
+        }
+
+        private synchronized boolean isIdle(long now) {
+            return !sending && now - lastSentAt > heartbeatNanos;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSpaceStatsDTO {
+    private Long teamSpaceId;
+    private long memberCount;
+    private long ownerCount;
+    private long adminCount;
+    private long folderCount;
+    private long sharedDocumentCount;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,36 @@
+// Denormalized counters of one team space, served to the dashboards without loading the aggregate.
+// Written only through the atomic increments of TeamSpaceStatsJpaRepository and by TeamSpaceStatsReconciliationJob.
+@Entity
+@Table(name = "team_space_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamSpaceStatsEntity {
+    @Id
+    @Column(name = "team_space_id")
+    private Long teamSpaceId;
+
+    // All members, whatever their role; members with the MEMBER role are memberCount - ownerCount - adminCount
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    @Column(name = "owner_count", nullable = false)
+    private long ownerCount;
+
+    @Column(name = "admin_count", nullable = false)
+    private long adminCount;
+
+    @Column(name = "folder_count", nullable = false)
+    private long folderCount;
+
+    @Column(name = "shared_document_count", nullable = false)
+    private long sharedDocumentCount;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,73 @@
+@Repository
+public interface TeamSpaceStatsJpaRepository extends JpaRepository<TeamSpaceStatsEntity, Long> {
+
+    // Relative update in the database: concurrent commands on the same team space never lose an increment
+    @Modifying
+    @Query("UPDATE TeamSpaceStatsEntity s SET s.memberCount = s.memberCount + :members,"
+            + " s.ownerCount = s.ownerCount + :owners, s.adminCount = s.adminCount + :admins,"
+            + " s.folderCount = s.folderCount + :folders, s.sharedDocumentCount = s.sharedDocumentCount + :sharedDocuments,"
+            + " s.lastActivityAt = CASE WHEN s.lastActivityAt IS NULL OR s.lastActivityAt < :activityAt"
+            + " THEN :activityAt ELSE s.lastActivityAt END"
+            + " WHERE s.teamSpaceId = :teamSpaceId")
+    int increment(@Param("teamSpaceId") Long teamSpaceId,
+                  @Param("members") long members,
+                  @Param("owners") long owners,
+                  @Param("admins") long admins,
+                  @Param("folders") long folders,
+                  @Param("sharedDocuments") long sharedDocuments,
+                  @Param("activityAt") LocalDateTime activityAt);
+
+    // Hot team spaces only: the folders and documents of a tiered team space have left the hot tables
+    @Query("SELECT t.id FROM TeamSpaceEntity t WHERE t.tieredAt IS NULL AND NOT EXISTS"
+            + " (SELECT s FROM TeamSpaceStatsEntity s WHERE s.teamSpaceId = t.id) ORDER BY t.id")
+    List<Long> findIdsWithoutStats(Pageable pageable);
+
+    @Query("SELECT s.teamSpaceId FROM TeamSpaceStatsEntity s, TeamSpaceEntity t WHERE t.id = s.teamSpaceId"
+            + " AND t.tieredAt IS NULL AND (s.reconciledAt IS NULL OR s.reconciledAt < :before)"
+            + " ORDER BY s.reconciledAt ASC NULLS FIRST, s.teamSpaceId")
+    List<Long> findIdsToReconcile(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // Locked before counting: a command committing meanwhile waits and applies its increment on top of the fresh counts
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TeamSpaceStatsEntity s WHERE s.teamSpaceId IN :teamSpaceIds")
+    List<TeamSpaceStatsEntity> lockAllById(@Param("teamSpaceIds") Collection<Long> teamSpaceIds);
+
+    @Query("SELECT m.teamSpace.id AS teamSpaceId, m.role AS role, COUNT(m) AS count FROM TeamSpaceMemberEntity m"
+            + " WHERE m.teamSpace.id IN :teamSpaceIds GROUP BY m.teamSpace.id, m.role")
+    List<TeamSpaceRoleCountView> countMembersByRole(@Param("teamSpaceIds") Collection<Long> teamSpaceIds);
+
+    @Query("SELECT f.teamSpace.id AS teamSpaceId, COUNT(f) AS count FROM FolderEntity f"
+            + " WHERE f.teamSpace.id IN :teamSpaceIds GROUP BY f.teamSpace.id")
+    List<TeamSpaceCountView> countFolders(@Param("teamSpaceIds") Collection<Long> teamSpaceIds);
+
+    // Every document of the space's folders: shared, bulk shared, imported and uploaded ones all record a DocumentSharedEvent
+    @Query("SELECT f.teamSpace.id AS teamSpaceId, COUNT(d) AS count FROM DocumentEntity d JOIN d.folder f"
+            + " WHERE f.teamSpace.id IN :teamSpaceIds GROUP BY f.teamSpace.id")
+    List<TeamSpaceCountView> countSharedDocuments(@Param("teamSpaceIds") Collection<Long> teamSpaceIds);
+
+    // Totals for the live statistics stream: one aggregate over the stats rows instead of a count per table
+    @Query("SELECT t.status AS status, COUNT(t) AS teamSpaces, COALESCE(SUM(s.memberCount), 0) AS members,"
+            + " COALESCE(SUM(s.ownerCount), 0) AS owners, COALESCE(SUM(s.adminCount), 0) AS admins,"
+            + " COALESCE(SUM(s.folderCount), 0) AS folders, COALESCE(SUM(s.sharedDocumentCount), 0) AS sharedDocuments"
+            + " FROM TeamSpaceEntity t LEFT JOIN TeamSpaceStatsEntity s ON s.teamSpaceId = t.id GROUP BY t.status")
+    List<TeamSpaceTotalsView> sumByStatus();
+
+    interface TeamSpaceCountView {
+        Long getTeamSpaceId();
+        long getCount();
+    }
+
+    interface TeamSpaceRoleCountView extends TeamSpaceCountView {
+        TeamSpaceRole getRole();
+    }
+
+    interface TeamSpaceTotalsView {
+        TeamSpaceStatus getStatus();
+        long getTeamSpaces();
+        long getMembers();
+        long getOwners();
+        long getAdmins();
+        long getFolders();
+        long getSharedDocuments();
+    }
+}
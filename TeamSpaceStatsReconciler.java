@@ -0,0 +1,61 @@
+// Recounts team_space_stats from the member, folder and document rows, creating the missing rows and repairing drift.
+// The stats rows are locked before counting: a command committing meanwhile waits on the row lock and applies
+// its increment on top of counts that do not include it yet.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamSpaceStatsReconciler {
+    private final TeamSpaceStatsJpaRepository statsJpaRepository;
+    private final EntityManager entityManager;
+
+    // Returns the number of existing rows whose counters had drifted
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int reconcile(Collection<Long> teamSpaceIds) {
+        Map<Long, TeamSpaceStatsEntity> current = statsJpaRepository.lockAllById(teamSpaceIds).stream()
+                .collect(Collectors.toMap(TeamSpaceStatsEntity::getTeamSpaceId, Function.identity()));
+
+        Map<Long, TeamSpaceStatsEntity> counted = new LinkedHashMap<>();
+        teamSpaceIds.forEach(id -> counted.put(id, TeamSpaceStatsEntity.builder().teamSpaceId(id).build()));
+        for (TeamSpaceStatsJpaRepository.TeamSpaceRoleCountView row : statsJpaRepository.countMembersByRole(teamSpaceIds)) {
+            TeamSpaceStatsEntity stats = counted.get(row.getTeamSpaceId());
+            stats.setMemberCount(stats.getMemberCount() + row.getCount());
+            if (row.getRole() == TeamSpaceRole.OWNER) {
+                stats.setOwnerCount(row.getCount());
+            } else if (row.getRole() == TeamSpaceRole.ADMIN) {
+                stats.setAdminCount(row.getCount());
+            }
+        }
+        statsJpaRepository.countFolders(teamSpaceIds)
+                .forEach(row -> counted.get(row.getTeamSpaceId()).setFolderCount(row.getCount()));
+        statsJpaRepository.countSharedDocuments(teamSpaceIds)
+                .forEach(row -> counted.get(row.getTeamSpaceId()).setSharedDocumentCount(row.getCount()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int drifted = 0;
+        for (TeamSpaceStatsEntity actual : counted.values()) {
+            TeamSpaceStatsEntity stats = current.get(actual.getTeamSpaceId());
+            if (stats == null) {
+                actual.setReconciledAt(now);
+                entityManager.persist(actual);
+                continue;
+            }
+            if (stats.getMemberCount() != actual.getMemberCount() || stats.getOwnerCount() != actual.getOwnerCount()
+                    || stats.getAdminCount() != actual.getAdminCount() || stats.getFolderCount() != actual.getFolderCount()
+                    || stats.getSharedDocumentCount() != actual.getSharedDocumentCount()) {
+                log.warn("Team space {} stats drifted: members {}/{}, owners {}/{}, admins {}/{}, folders {}/{},"
+                                + " shared documents {}/{} (stored/actual)", actual.getTeamSpaceId(),
+                        stats.getMemberCount(), actual.getMemberCount(), stats.getOwnerCount(), actual.getOwnerCount(),
+                        stats.getAdminCount(), actual.getAdminCount(), stats.getFolderCount(), actual.getFolderCount(),
+                        stats.getSharedDocumentCount(), actual.getSharedDocumentCount());
+                stats.setMemberCount(actual.getMemberCount());
+                stats.setOwnerCount(actual.getOwnerCount());
+                stats.setAdminCount(actual.getAdminCount());
+                stats.setFolderCount(actual.getFolderCount());
+                stats.setSharedDocumentCount(actual.getSharedDocumentCount());
+                drifted++;
+            }
+            stats.setReconciledAt(now);
+        }
+        return drifted;
+    }
+}
@@ -0,0 +1,67 @@
+// Repairs any drift of team_space_stats (events recorded before the stats existed, manual fixes in the database...):
+// each run recounts the least recently reconciled team spaces, so the whole table is covered over successive runs.
+@Component
+@Slf4j
+public class TeamSpaceStatsReconciliationJob {
+    private final TeamSpaceStatsJpaRepository statsJpaRepository;
+    private final TeamSpaceStatsReconciler reconciler;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter driftedTeamSpaces;
+    private final Counter reconciledTeamSpaces;
+
+    public TeamSpaceStatsReconciliationJob(TeamSpaceStatsJpaRepository statsJpaRepository,
+                                           TeamSpaceStatsReconciler reconciler,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${teamspace.stats.reconciliation.batch-size:500}") int batchSize,
+                                           @Value("${teamspace.stats.reconciliation.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.statsJpaRepository = statsJpaRepository;
+        this.reconciler = reconciler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.driftedTeamSpaces = meterRegistry.counter("teamspace.stats.reconciled", "result", "drifted");
+        this.reconciledTeamSpaces = meterRegistry.counter("teamspace.stats.reconciled", "result", "checked");
+    }
+
+    @Scheduled(fixedDelayString = "${teamspace.stats.reconciliation.interval:PT1H}")
+    public void reconcile() {
+        // Rows reconciled during this run are not picked up again by its later batches
+        LocalDateTime runStart = LocalDateTime.now();
+        int created = 0;
+        List<Long> missing;
+        do {
+            missing = transactionTemplate.execute(status -> {
+                List<Long> ids = statsJpaRepository.findIdsWithoutStats(PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    reconciler.reconcile(ids);
+                }
+                return ids;
+            });
+            created += missing.size();
+        } while (missing.size() == batchSize);
+
+        int checked = 0;
+        int drifted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int[] result = transactionTemplate.execute(status -> {
+                List<Long> ids = statsJpaRepository.findIdsToReconcile(runStart, PageRequest.of(0, batchSize));
+                return new int[]{ids.size(), ids.isEmpty() ? 0 : reconciler.reconcile(ids)};
+            });
+            checked += result[0];
+            drifted += result[1];
+            if (result[0] < batchSize) {
+                break;
+            }
+        }
+        reconciledTeamSpaces.increment(checked);
+        driftedTeamSpaces.increment(drifted);
+        if (created > 0 || drifted > 0) {
+            log.warn("Team space stats reconciled: {} rows created, {} of {} checked rows repaired", created, drifted, checked);
+        } else {
+            log.debug("Team space stats reconciled: {} rows checked, no drift", checked);
+        }
+    }
+}
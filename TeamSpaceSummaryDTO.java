@@ -0,0 +1,21 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSpaceSummaryDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private String status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private TeamSpaceRole myRole;
+
+    private Long memberCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long folderCount;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
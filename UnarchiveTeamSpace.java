@@ -0,0 +1,3 @@
+public interface UnarchiveTeamSpace extends Command {
+    TeamSpaceSummaryDTO handle(UnarchiveTeamSpaceRequest input, RequestContext context);
+}
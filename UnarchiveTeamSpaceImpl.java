@@ -0,0 +1,47 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnarchiveTeamSpaceImpl implements UnarchiveTeamSpace {
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpaceMemberRepository memberRepository;
+    private final TeamSpaceFolderRepository folderRepository;
+    private final TeamSpaceColdStorage coldStorage;
+    private final TeamSpaceMapper teamSpaceMapper;
+
+    @Override
+    @Transactional
+    public TeamSpaceSummaryDTO handle(UnarchiveTeamSpaceRequest input, RequestContext context) {
+        log.info("Unarchiving team space {}", input.getTeamSpaceId());
+
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+
+        // Verify requesting user is owner
+        permissionChecker.requireOwner(input.getTeamSpaceId(), requestingUserIgg, "Only owners can unarchive a team space");
+
+        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        if (teamSpace.getStatus() != TeamSpaceStatus.ARCHIVED) {
+            throw new IllegalArgumentException("Team space is not archived");
+        }
+
+        // Verify team space name is still unique among active team spaces
+        if (teamSpaceRepository.existsActiveByName(teamSpace.getName())) {
+            throw new IllegalArgumentException("Team space with name " + teamSpace.getName() + " already exists");
+        }
+
+        // Brings folders, documents and blobs back from the cold tier if the archival job already moved them
+        coldStorage.rehydrate(teamSpace.getId());
+
+        if (!teamSpaceRepository.updateStatus(teamSpace.getId(), TeamSpaceStatus.ARCHIVED, TeamSpaceStatus.ACTIVE, null)) {
+            throw new IllegalArgumentException("Team space is not archived");
+        }
+        TeamSpace unarchived = teamSpaceRepository.findById(teamSpace.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
+        log.info("Team space {} unarchived", unarchived.getId());
+
+        return teamSpaceMapper.toSummaryDTO(unarchived,
+                memberRepository.countByTeamSpaceId(unarchived.getId()),
+                folderRepository.countByTeamSpaceId(unarchived.getId()));
+    }
+}
@@ -0,0 +1,8 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnarchiveTeamSpaceRequest {
+    @NotNull
+    private Long teamSpaceId;
+}
@@ -2,8 +2,11 @@
 @RequiredArgsConstructor
 @Slf4j
 public class UpdateTeamSpaceMemberRoleImpl implements UpdateTeamSpaceMemberRole {
-    private final TeamSpaceRepository teamSpaceRepository;
+    private final TeamSpacePermissionChecker permissionChecker;
+    private final TeamSpaceMemberRepository memberRepository;
     private final TeamSpaceMemberMapper memberMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamSpaceOutbox outbox;
 
     @Override
     @Transactional
@@ -12,28 +15,25 @@ public class UpdateTeamSpaceMemberRoleImpl implements UpdateTeamSpaceMemberRole
 
         String requestingUserIgg = context.getUser().get().getIgg().toString();
 
-        // Get the team space
-        TeamSpace teamSpace = teamSpaceRepository.findById(input.getTeamSpaceId())
-                .orElseThrow(() -> new IllegalArgumentException("Team space not found"));
-
         // Verify if requesting user has permission to update roles
-        if (!teamSpace.isUserOwner(requestingUserIgg)) {
-            throw new AccessDeniedException("Only owners can update member roles");
-        }
+        permissionChecker.requireOwner(input.getTeamSpaceId(), requestingUserIgg, "Only owners can update member roles");
+
+        // Get the member row only, not the whole team space
+        TeamSpaceMember member = memberRepository.findByTeamSpaceIdAndUserIgg(input.getTeamSpaceId(), input.getMemberIgg())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found in team space"));
 
         // Cannot change owner's role
-        if (teamSpace.isUserOwner(input.getMemberIgg())) {
+        if (member.getRole() == TeamSpaceRole.OWNER) {
             throw new IllegalArgumentException("Cannot change owner's role");
         }
 
-        // Update member's role
-        teamSpace.updateMemberRole(input.getMemberIgg(), input.getNewRole());
-        
-        // Save changes
-        TeamSpace updatedTeamSpace = teamSpaceRepository.save(teamSpace);
-        
-        // Return updated member
-        return memberMapper.toDTO(updatedTeamSpace.getMemberByIgg(input.getMemberIgg())
-                .orElseThrow(() -> new IllegalStateException("Member not found after update")));
+        // Single-row update, guarded by the member version
+        TeamSpaceRole previousRole = member.getRole();
+        TeamSpaceMember updatedMember = memberRepository.updateRole(member, input.getNewRole());
+        eventPublisher.publishEvent(new TeamSpaceMembershipChangedEvent(input.getTeamSpaceId(), input.getMemberIgg()));
+        outbox.append(new TeamSpaceMemberRoleChangedEvent(input.getTeamSpaceId(), input.getMemberIgg(), previousRole,
+                updatedMember.getRole(), requestingUserIgg, LocalDateTime.now()));
+
+        return memberMapper.toDTO(updatedMember);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,3 @@
+public interface UploadDocumentChunk extends Command {
+    UploadSessionDTO handle(UploadDocumentChunkRequest input, RequestContext context);
+}
@@ -0,0 +1,54 @@
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadDocumentChunkImpl implements UploadDocumentChunk {
+    private final UploadSessionAccessChecker sessionAccessChecker;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ChunkedUploadStorage uploadStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${documents.upload.session-ttl:PT24H}")
+    private Duration sessionTtl;
+
+    // No transaction around the transfer: a chunk of up to 64 MiB from a slow client must not hold a pooled connection.
+    // Only the acknowledgement of the chunk runs in a short transaction, once the bytes are on disk.
+    @Override
+    public UploadSessionDTO handle(UploadDocumentChunkRequest input, RequestContext context) {
+        String requestingUserIgg = context.getUser().get().getIgg().toString();
+        UploadSession session = sessionAccessChecker.requireOpen(input.getSessionId(), requestingUserIgg);
+
+        int chunkIndex = input.getChunkIndex();
+        // Chunk already acknowledged: the client retried after losing our response
+        if (chunkIndex < session.getNextChunkIndex()) {
+            log.debug("Chunk {} of upload session {} already received", chunkIndex, session.getId());
+            return session.toDTO();
+        }
+        if (chunkIndex != session.getNextChunkIndex()) {
+            throw new IllegalStateException("Expected chunk " + session.getNextChunkIndex() + " of upload session, got " + chunkIndex);
+        }
+        long expectedLength = session.getChunkLength(chunkIndex);
+        if (input.getContentLength() != expectedLength) {
+            throw new IllegalArgumentException("Chunk " + chunkIndex + " must be " + expectedLength + " bytes long");
+        }
+
+        try {
+            uploadStorage.writeChunk(session.getId(), session.getChunkOffset(chunkIndex), expectedLength, input.getContent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store chunk " + chunkIndex + " of upload session " + session.getId(), e);
+        }
+
+        return transactionTemplate.execute(status -> {
+            // Read again: the session may have been committed, aborted or advanced during the transfer
+            UploadSession current = sessionAccessChecker.requireOpen(input.getSessionId(), requestingUserIgg);
+            if (current.getNextChunkIndex() != chunkIndex) {
+                log.debug("Chunk {} of upload session {} acknowledged concurrently", chunkIndex, current.getId());
+                return current.toDTO();
+            }
+            current.setNextChunkIndex(chunkIndex + 1);
+            current.setReceivedBytes(current.getReceivedBytes() + expectedLength);
+            current.setExpiresAt(LocalDateTime.now().plus(sessionTtl));
+            // Checked against the session version, a concurrent acknowledgement fails instead of counting twice
+            return uploadSessionRepository.save(current).toDTO();
+        });
+    }
+}
@@ -0,0 +1,17 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadDocumentChunkRequest {
+    @NotNull
+    private String sessionId;
+
+    @NotNull
+    @Min(0)
+    private Integer chunkIndex;
+
+    private long contentLength;
+
+    // Raw request body, streamed to storage without buffering
+    private InputStream content;
+}
@@ -0,0 +1,53 @@
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+    private String id;
+    private String userIgg;
+    private Long folderId;
+    private String fileName;
+    private String contentType;
+    private long totalSize;
+    private int chunkSize;
+    private int nextChunkIndex;
+    private long receivedBytes;
+    private UploadSessionStatus status;
+    private String versionRequest;
+    private String contentHash;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private Long version;
+
+    public int getChunkCount() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+
+    public long getChunkOffset(int chunkIndex) {
+        return (long) chunkIndex * chunkSize;
+    }
+
+    // Every chunk has the session chunk size except the last one
+    public long getChunkLength(int chunkIndex) {
+        return Math.min(chunkSize, totalSize - getChunkOffset(chunkIndex));
+    }
+
+    public boolean isComplete() {
+        return receivedBytes == totalSize;
+    }
+
+    public UploadSessionDTO toDTO() {
+        return UploadSessionDTO.builder()
+                .sessionId(id)
+                .fileName(fileName)
+                .totalSize(totalSize)
+                .chunkSize(chunkSize)
+                .chunkCount(getChunkCount())
+                .nextChunkIndex(nextChunkIndex)
+                .receivedBytes(receivedBytes)
+                .status(status)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+@Component
+@RequiredArgsConstructor
+public class UploadSessionAccessChecker {
+    private final UploadSessionRepository uploadSessionRepository;
+
+    public UploadSession requireOwned(String sessionId, String userIgg) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found"));
+        // Verify the session belongs to the requesting user, team space permissions were checked when it was opened
+        if (!session.getUserIgg().equals(userIgg)) {
+            throw new AccessDeniedException("Only the user who opened the upload session can use it");
+        }
+        return session;
+    }
+
+    public UploadSession requireOpen(String sessionId, String userIgg) {
+        UploadSession session = requireOwned(sessionId, userIgg);
+        if (session.getStatus() != UploadSessionStatus.OPEN) {
+            throw new IllegalStateException("Upload session is " + session.getStatus());
+        }
+        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalStateException("Upload session has expired");
+        }
+        return session;
+    }
+}
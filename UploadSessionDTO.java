@@ -0,0 +1,16 @@
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDTO {
+    private String sessionId;
+    private String fileName;
+    private long totalSize;
+    private int chunkSize;
+    private int chunkCount;
+    // Resume point: the first chunk the server has not acknowledged yet
+    private int nextChunkIndex;
+    private long receivedBytes;
+    private UploadSessionStatus status;
+    private LocalDateTime expiresAt;
+}
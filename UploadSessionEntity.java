@@ -0,0 +1,61 @@
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionEntity {
+    @Id
+    private String id;
+
+    @Column(name = "user_igg", nullable = false)
+    private String userIgg;
+
+    @Column(name = "folder_id")
+    private Long folderId;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "next_chunk_index", nullable = false)
+    private int nextChunkIndex;
+
+    @Column(name = "received_bytes", nullable = false)
+    private long receivedBytes;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private UploadSessionStatus status;
+
+    // CreateDocumentVersionRequest as JSON, replayed when the upload is committed
+    @Column(name = "version_request", nullable = false)
+    private String versionRequest;
+
+    @Column(name = "content_hash")
+    private String contentHash;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
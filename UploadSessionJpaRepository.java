@@ -0,0 +1,4 @@
+@Repository
+public interface UploadSessionJpaRepository extends JpaRepository<UploadSessionEntity, String> {
+    List<UploadSessionEntity> findByStatusAndExpiresAtBefore(UploadSessionStatus status, LocalDateTime threshold, Pageable pageable);
+}
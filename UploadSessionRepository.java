@@ -0,0 +1,5 @@
+public interface UploadSessionRepository {
+    UploadSession save(UploadSession session);
+    Optional<UploadSession> findById(String id);
+    List<UploadSession> findExpired(LocalDateTime threshold, int limit);
+}
@@ -0,0 +1,62 @@
+@Component
+@RequiredArgsConstructor
+public class UploadSessionRepositoryImpl implements UploadSessionRepository {
+    private final UploadSessionJpaRepository uploadSessionJpaRepository;
+
+    @Override
+    public UploadSession save(UploadSession session) {
+        return toDomain(uploadSessionJpaRepository.save(toEntity(session)));
+    }
+
+    @Override
+    public Optional<UploadSession> findById(String id) {
+        return uploadSessionJpaRepository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<UploadSession> findExpired(LocalDateTime threshold, int limit) {
+        return uploadSessionJpaRepository.findByStatusAndExpiresAtBefore(UploadSessionStatus.OPEN, threshold, PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private UploadSession toDomain(UploadSessionEntity entity) {
+        return UploadSession.builder()
+                .id(entity.getId())
+                .userIgg(entity.getUserIgg())
+                .folderId(entity.getFolderId())
+                .fileName(entity.getFileName())
+                .contentType(entity.getContentType())
+                .totalSize(entity.getTotalSize())
+                .chunkSize(entity.getChunkSize())
+                .nextChunkIndex(entity.getNextChunkIndex())
+                .receivedBytes(entity.getReceivedBytes())
+                .status(entity.getStatus())
+                .versionRequest(entity.getVersionRequest())
+                .contentHash(entity.getContentHash())
+                .createdAt(entity.getCreatedAt())
+                .expiresAt(entity.getExpiresAt())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    private UploadSessionEntity toEntity(UploadSession session) {
+        return UploadSessionEntity.builder()
+                .id(session.getId())
+                .userIgg(session.getUserIgg())
+                .folderId(session.getFolderId())
+                .fileName(session.getFileName())
+                .contentType(session.getContentType())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .nextChunkIndex(session.getNextChunkIndex())
+                .receivedBytes(session.getReceivedBytes())
+                .status(session.getStatus())
+                .versionRequest(session.getVersionRequest())
+                .contentHash(session.getContentHash())
+                .createdAt(session.getCreatedAt())
+                .expiresAt(session.getExpiresAt())
+                .version(session.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+public enum UploadSessionStatus {
+    OPEN,
+    COMMITTED,
+    ABORTED
+}
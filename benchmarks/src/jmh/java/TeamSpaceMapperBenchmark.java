@@ -0,0 +1,63 @@
+// Round trips of TeamSpaceMapper between the domain, the JPA entity and the DTO.
+// toDomain only builds lazy views: the entity benchmark reads the members to pay for the conversion.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamSpaceMapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int memberCount;
+
+    private TeamSpaceMapper mapper;
+    private TeamSpace teamSpace;
+    private TeamSpaceEntity entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new TeamSpaceMapper(new TeamSpaceMemberMapper(), new FolderMapper());
+        LocalDateTime now = LocalDateTime.now();
+        teamSpace = TeamSpace.builder()
+                .id(1L)
+                .name("benchmark")
+                .description("Team space used by the mapper benchmark")
+                .status(TeamSpaceStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+        for (int i = 0; i < memberCount; i++) {
+            teamSpace.addMember(TeamSpaceMember.builder()
+                    .id((long) i)
+                    .teamSpaceId(1L)
+                    .userIgg("user-" + i)
+                    .role(i == 0 ? TeamSpaceRole.OWNER : TeamSpaceRole.MEMBER)
+                    .joinedAt(now)
+                    .version(0L)
+                    .build());
+        }
+        entity = mapper.toEntity(teamSpace);
+    }
+
+    @Benchmark
+    public TeamSpaceEntity toEntity() {
+        return mapper.toEntity(teamSpace);
+    }
+
+    @Benchmark
+    public int toDomain() {
+        return mapper.toDomain(entity).getMembers().size();
+    }
+
+    @Benchmark
+    public TeamSpaceDTO toDTO() {
+        return mapper.toDTO(teamSpace);
+    }
+
+    @Benchmark
+    public TeamSpaceDTO roundTrip() {
+        return mapper.toDTO(mapper.toDomain(mapper.toEntity(teamSpace)));
+    }
+}
@@ -0,0 +1,63 @@
+// Membership checks of the TeamSpace aggregate on a fully loaded member set.
+// The looked up user sits at the end of the iteration order (worst case) or is not a member at all.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamSpaceMembershipBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int memberCount;
+
+    private TeamSpace teamSpace;
+    private String lastMemberIgg;
+    private String outsiderIgg;
+
+    @Setup
+    public void setUp() {
+        teamSpace = TeamSpace.builder()
+                .id(1L)
+                .name("benchmark")
+                .status(TeamSpaceStatus.ACTIVE)
+                .build();
+        teamSpace.addMember(TeamSpaceMember.builder()
+                .teamSpaceId(1L)
+                .userIgg("owner")
+                .role(TeamSpaceRole.OWNER)
+                .build());
+        for (int i = 1; i < memberCount; i++) {
+            teamSpace.addMember(TeamSpaceMember.builder()
+                    .teamSpaceId(1L)
+                    .userIgg("user-" + i)
+                    .role(i % 10 == 0 ? TeamSpaceRole.ADMIN : TeamSpaceRole.MEMBER)
+                    .build());
+        }
+        // Last member in iteration order of the HashSet
+        for (TeamSpaceMember member : teamSpace.getMembers()) {
+            lastMemberIgg = member.getUserIgg();
+        }
+        outsiderIgg = "not-a-member";
+    }
+
+    @Benchmark
+    public boolean isMember() {
+        return teamSpace.isMember(lastMemberIgg);
+    }
+
+    @Benchmark
+    public boolean isMemberMiss() {
+        return teamSpace.isMember(outsiderIgg);
+    }
+
+    @Benchmark
+    public boolean isUserAdmin() {
+        return teamSpace.isUserAdmin(lastMemberIgg);
+    }
+
+    @Benchmark
+    public boolean isUserOwner() {
+        return teamSpace.isUserOwner(lastMemberIgg);
+    }
+}
@@ -0,0 +1,33 @@
+package com.socgen.unibank.services.autotest.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée des benchmarks avec le profiler GC activé.
+ *
+ * Le profiler ajoute à chaque résultat le taux d'allocation ({@code gc.alloc.rate.norm}, en octets
+ * par opération) : une régression d'allocation sur un chemin chaud apparaît ainsi dans les chiffres
+ * même quand le temps moyen ne bouge pas. Le premier argument optionnel filtre les benchmarks
+ * (expression régulière JMH), les résultats sont écrits en JSON pour être comparés d'un changement à l'autre.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("build/results/jmh/results.json")
+                .build();
+        new Runner(options).run();
+    }
+}
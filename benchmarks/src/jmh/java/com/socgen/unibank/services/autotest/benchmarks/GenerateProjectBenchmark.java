@@ -0,0 +1,122 @@
+package com.socgen.unibank.services.autotest.benchmarks;
+
+import com.socgen.unibank.services.autotest.model.generator.ProjectArchiveCache;
+import com.socgen.unibank.services.autotest.model.generator.ProjectArchiveWriter;
+import com.socgen.unibank.services.autotest.model.generator.ProjectModuleGenerator;
+import com.socgen.unibank.services.autotest.model.model.ProjectRequest;
+import com.socgen.unibank.services.autotest.model.usecases.GenerateProjectImpl;
+import com.socgen.unibank.services.autotest.model.usecases.ProjectRequestValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mesure la génération complète d'un projet, de la requête jusqu'à l'archive ZIP en mémoire ou en flux.
+ *
+ * Les générateurs et les templates sont ceux de l'application, instanciés par un contexte Spring
+ * limité à leurs packages : le benchmark suit automatiquement l'ajout d'un nouveau module.
+ *
+ * Avec {@code archiveCacheEnabled}, {@code generateZip} mesure une archive servie depuis le cache disque
+ * (la même requête est répétée) ; sans, une génération complète à chaque appel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerateProjectBenchmark {
+
+    @Param({"false", "true"})
+    private boolean archiveCacheEnabled;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private Path archiveCacheDirectory;
+    private ProjectArchiveWriter archiveWriter;
+    private GenerateProjectImpl generateProject;
+    private ProjectRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        archiveCacheDirectory = Files.createTempDirectory("benchmark-archives");
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "generator.archive-cache.enabled", archiveCacheEnabled,
+                "generator.archive-cache.directory", archiveCacheDirectory.toString())));
+        applicationContext.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        applicationContext.scan(
+                "com.socgen.unibank.services.autotest.model.generator",
+                "com.socgen.unibank.services.autotest.model.template");
+        applicationContext.refresh();
+        List<ProjectModuleGenerator> generators = applicationContext.getBeanProvider(ProjectModuleGenerator.class)
+                .orderedStream()
+                .collect(Collectors.toList());
+        archiveWriter = new ProjectArchiveWriter(generators, 0);
+        generateProject = new GenerateProjectImpl(new ProjectRequestValidator(), archiveWriter,
+                applicationContext.getBean(ProjectArchiveCache.class));
+        request = ProjectRequest.builder()
+                .projectName("benchmark-project")
+                .javaVersion("17")
+                .gradleVersion("8.5")
+                .groupId("com.socgen.unibank")
+                .artifactId("benchmark-project")
+                .description("Projet généré par le benchmark")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        archiveWriter.shutdown();
+        applicationContext.close();
+        FileSystemUtils.deleteRecursively(archiveCacheDirectory);
+    }
+
+    @Benchmark
+    public long generateZip() {
+        ResponseEntity<Resource> response = generateProject.handle(request, null);
+        return response.getHeaders().getContentLength();
+    }
+
+    /**
+     * Écriture en flux, planification et rendu parallèle compris, telle que faite par GenerateProjectStreamImpl.
+     */
+    @Benchmark
+    public int generateStream() throws IOException {
+        return archiveWriter.write(archiveWriter.prepare(request), OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Phases de planification et de rendu seules.
+     */
+    @Benchmark
+    public long render() {
+        return archiveWriter.prepare(request).contentSize();
+    }
+}
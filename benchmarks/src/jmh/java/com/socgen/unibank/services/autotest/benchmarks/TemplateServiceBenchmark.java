@@ -0,0 +1,76 @@
+package com.socgen.unibank.services.autotest.benchmarks;
+
+import com.socgen.unibank.services.autotest.model.template.TemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure le rendu d'un template par {@link TemplateService}, cache activé et désactivé.
+ *
+ * {@code renderedCacheSize} à 0 ne garde que le cache des templates analysés ; au-delà, le cache
+ * borné des rendus sert {@code sameVariables}, tandis que {@code distinctVariables} le fait tourner
+ * et mesure le coût de l'empreinte et de l'éviction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateServiceBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"0", "256"})
+    private int renderedCacheSize;
+
+    @Param({"settings-gradle", "readme"})
+    private String templateName;
+
+    private TemplateService templateService;
+    private Map<String, Object> variables;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        templateService = new TemplateService(cacheEnabled, 200, renderedCacheSize);
+        templateService.warmUp();
+        variables = projectVariables("benchmark-project");
+    }
+
+    @Benchmark
+    public String sameVariables() {
+        return templateService.processTemplate(templateName, variables);
+    }
+
+    @Benchmark
+    public String distinctVariables() {
+        return templateService.processTemplate(templateName, projectVariables("benchmark-project-" + sequence++));
+    }
+
+    private static Map<String, Object> projectVariables(String projectName) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("projectName", projectName);
+        variables.put("description", "Projet généré par le benchmark");
+        variables.put("javaVersion", "17");
+        variables.put("gradleVersion", "8.5");
+        variables.put("groupId", "com.socgen.unibank");
+        variables.put("artifactId", projectName);
+        variables.put("version", "1.0.0");
+        return variables;
+    }
+}
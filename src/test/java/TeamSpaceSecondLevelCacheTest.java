@@ -0,0 +1,81 @@
+// Second-level cache of the team space entities: once loaded, a team space or a member is found again by id
+// in a new persistence context without any SQL statement. Counted with the Hibernate statistics enabled by
+// TeamSpaceCacheConfig, on an embedded database whose schema is generated from the entities.
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "teamspace.cache.statistics=true"})
+@Import(TeamSpaceCacheConfig.class)
+class TeamSpaceSecondLevelCacheTest {
+
+    @Autowired
+    private TeamSpaceJpaRepository teamSpaceJpaRepository;
+
+    @Autowired
+    private TeamSpaceMemberJpaRepository teamSpaceMemberJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long teamSpaceId;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        TeamSpaceEntity teamSpace = testEntityManager.persist(TeamSpaceEntity.builder()
+                .name("cached")
+                .status(TeamSpaceStatus.ACTIVE)
+                .members(new HashSet<>())
+                .folders(new HashSet<>())
+                .build());
+        TeamSpaceMemberEntity member = testEntityManager.persist(TeamSpaceMemberEntity.builder()
+                .teamSpace(teamSpace)
+                .userIgg("owner")
+                .role(TeamSpaceRole.OWNER)
+                .build());
+        testEntityManager.flush();
+        teamSpaceId = teamSpace.getId();
+        memberId = member.getId();
+
+        // Every test starts from a cold cache and an empty persistence context
+        testEntityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedFindByIdOfATeamSpaceIssuesNoStatement() {
+        assertThat(teamSpaceJpaRepository.findById(teamSpaceId)).isPresent();
+        long statementsOfFirstLoad = statistics.getPrepareStatementCount();
+        assertThat(statementsOfFirstLoad).isPositive();
+        testEntityManager.clear();
+
+        assertThat(teamSpaceJpaRepository.findById(teamSpaceId)).get()
+                .extracting(TeamSpaceEntity::getName)
+                .isEqualTo("cached");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsOfFirstLoad);
+        assertThat(statistics.getDomainDataRegionStatistics(TeamSpaceCacheConfig.TEAM_SPACES).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedFindByIdOfAMemberIssuesNoStatement() {
+        assertThat(teamSpaceMemberJpaRepository.findById(memberId)).isPresent();
+        long statementsOfFirstLoad = statistics.getPrepareStatementCount();
+        assertThat(statementsOfFirstLoad).isPositive();
+        testEntityManager.clear();
+
+        assertThat(teamSpaceMemberJpaRepository.findById(memberId)).get()
+                .extracting(TeamSpaceMemberEntity::getRole)
+                .isEqualTo(TeamSpaceRole.OWNER);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsOfFirstLoad);
+        assertThat(statistics.getDomainDataRegionStatistics(TeamSpaceCacheConfig.TEAM_SPACE_MEMBERS).getHitCount()).isEqualTo(1);
+    }
+}